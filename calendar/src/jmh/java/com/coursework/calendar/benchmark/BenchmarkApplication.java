@@ -0,0 +1,30 @@
+package com.coursework.calendar.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.coursework.calendar.CalendarApplication;
+
+/**
+ * Поднимает приложение с H2 (профиль dev) для бенчмарков, которым нужна БД.
+ * Отладочное логирование запросов профиля dev отключается, чтобы не искажать замеры.
+ */
+final class BenchmarkApplication {
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web=WARN"));
+        args.addAll(List.of(overrides));
+        return new SpringApplicationBuilder(CalendarApplication.class)
+                .profiles("dev")
+                // Аргументы командной строки, а не properties(): те ниже по приоритету, чем application-dev.yaml
+                .run(args.toArray(String[]::new));
+    }
+}
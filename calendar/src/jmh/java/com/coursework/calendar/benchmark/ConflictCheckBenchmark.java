@@ -0,0 +1,135 @@
+package com.coursework.calendar.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.event.EventStatus;
+import com.coursework.calendar.scheduling.EventOccurrence;
+import com.coursework.calendar.service.EventService;
+
+/**
+ * Проверка конфликтов для пользователя с большим календарем: events собственных
+ * событий по часу каждые 4 часа, ежедневная серия и принятые приглашения на
+ * события другого пользователя.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ConflictCheckBenchmark {
+    private static final LocalDateTime BASE = LocalDateTime.of(2022, 1, 3, 0, 0);
+
+    @Param({ "10000", "50000" })
+    private int events;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private UUID ownerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        eventService = context.getBean(EventService.class);
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        ownerId = insertUser(jdbc, "owner");
+        UUID organizerId = insertUser(jdbc, "organizer");
+
+        List<Object[]> rows = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            LocalDateTime start = BASE.plusHours(4L * i);
+            rows.add(eventRow(UUID.randomUUID(), ownerId, start, start.plusHours(1), start.plusHours(1)));
+        }
+        jdbc.batchUpdate("INSERT INTO events (id, title, description, start_time, end_time, owner_id, created_at, "
+                + "status, series_end) VALUES (?, 'Event', 'Benchmark event', ?, ?, ?, ?, 'PUBLISHED', ?)", rows);
+
+        // Бесконечная ежедневная серия в 03:00 - между собственными событиями
+        jdbc.update("INSERT INTO events (id, title, description, start_time, end_time, owner_id, created_at, "
+                + "status, recurrence_rule) VALUES (?, 'Daily', 'Benchmark series', ?, ?, ?, ?, 'PUBLISHED', "
+                + "'FREQ=DAILY')", UUID.randomUUID(), Timestamp.valueOf(BASE.plusHours(3)),
+                Timestamp.valueOf(BASE.plusHours(3).plusMinutes(15)), ownerId, Timestamp.valueOf(BASE));
+
+        List<Object[]> invited = new ArrayList<>();
+        List<Object[]> invitations = new ArrayList<>();
+        for (int i = 0; i < events / 20; i++) {
+            UUID eventId = UUID.randomUUID();
+            LocalDateTime start = BASE.plusHours(80L * i + 2);
+            invited.add(eventRow(eventId, organizerId, start, start.plusMinutes(30), start.plusMinutes(30)));
+            invitations.add(new Object[] { UUID.randomUUID(), eventId, ownerId, Timestamp.valueOf(BASE) });
+        }
+        jdbc.batchUpdate("INSERT INTO events (id, title, description, start_time, end_time, owner_id, created_at, "
+                + "status, series_end) VALUES (?, 'Invited', 'Benchmark event', ?, ?, ?, ?, 'PUBLISHED', ?)", invited);
+        jdbc.batchUpdate("INSERT INTO invitations (id, event_id, user_id, created_at, status) "
+                + "VALUES (?, ?, ?, ?, 'ACCEPTED')", invitations);
+    }
+
+    private static UUID insertUser(JdbcTemplate jdbc, String name) {
+        UUID id = UUID.randomUUID();
+        jdbc.update("INSERT INTO users (id, username, email, password_hash, role, created_at) "
+                + "VALUES (?, ?, ?, 'hash', 'USER', ?)", id, name, name + "@bench.local",
+                Timestamp.valueOf(BASE));
+        return id;
+    }
+
+    private static Object[] eventRow(UUID id, UUID ownerId, LocalDateTime start, LocalDateTime end,
+            LocalDateTime seriesEnd) {
+        return new Object[] { id, Timestamp.valueOf(start), Timestamp.valueOf(end), ownerId,
+                Timestamp.valueOf(BASE), Timestamp.valueOf(seriesEnd) };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private Event candidate(LocalDateTime start, LocalDateTime end, String rule) {
+        Event event = new Event(null, "Candidate", "Benchmark", start, end, ownerId, LocalDateTime.now(),
+                EventStatus.PUBLISHED);
+        event.setRecurrenceRule(rule);
+        return event;
+    }
+
+    /** Окно в середине календаря без пересечений. */
+    @Benchmark
+    public List<EventOccurrence> freeSlot() {
+        LocalDateTime start = BASE.plusHours(4L * (events / 2) + 1).plusMinutes(30);
+        return eventService.findConflicts(candidate(start, start.plusMinutes(60), null), null);
+    }
+
+    /** Окно, пересекающее собственное событие и принятое приглашение. */
+    @Benchmark
+    public List<EventOccurrence> busySlot() {
+        LocalDateTime start = BASE.plusHours(80L * (events / 40));
+        return eventService.findConflicts(candidate(start, start.plusHours(3), null), null);
+    }
+
+    /** Еженедельная серия на 10 недель поверх заполненного календаря. */
+    @Benchmark
+    public List<EventOccurrence> weeklySeries() {
+        LocalDateTime start = BASE.plusHours(4L * (events / 2));
+        return eventService.findConflicts(candidate(start, start.plusMinutes(30), "FREQ=WEEKLY;COUNT=10"), null);
+    }
+}
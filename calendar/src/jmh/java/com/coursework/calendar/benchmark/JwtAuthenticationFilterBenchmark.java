@@ -0,0 +1,93 @@
+package com.coursework.calendar.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.coursework.calendar.config.AuthenticatedUser;
+import com.coursework.calendar.config.JwtAuthenticationFilter;
+import com.coursework.calendar.config.PublicPathClassifier;
+import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.service.JwtService;
+import com.coursework.calendar.service.UserAuthCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+
+/**
+ * Путь запроса через JwtAuthenticationFilter. Вместо БД - заглушка
+ * UserDetailsService с готовым пользователем, вместо остальной цепочки
+ * фильтров - пустой FilterChain. Заглушки, а не Mockito, чтобы не измерять
+ * запись вызовов моков.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({ "true", "false" })
+    private boolean stateless;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private final FilterChain chain = (request, response) -> {
+    };
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = new JwtService(JwtBenchmark.SECRET, 900000L, 604800000L, 10000L, 300000L, new SimpleMeterRegistry());
+        User user = new User(UUID.randomUUID(), "bench@example.com", "bench", "hash", UserRole.USER);
+        UserDetails userDetails = new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(),
+                user.getPasswordHash());
+        UserDetailsService userDetailsService = email -> userDetails;
+        UserAuthCache userAuthCache = new UserAuthCache(false, 30000L, 10000L, 900000L);
+
+        filter = new JwtAuthenticationFilter(jwtService, userDetailsService, userAuthCache, stateless,
+                new PublicPathClassifier(List.of("/assets/**", "/*.js", "/api/auth/login")), new SimpleMeterRegistry());
+        authorization = "Bearer " + jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public Authentication staticResource() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/assets/index-3f2a1b.js");
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
@@ -0,0 +1,76 @@
+package com.coursework.calendar.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.service.JwtService;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Выпуск и проверка access-токена. parseUncached использует сервис с кэшем
+ * нулевого размера, то есть каждый вызов заново проверяет подпись.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+    static final String SECRET = "benchmark-secret-key-for-jwt-token-generation-minimum-32-characters";
+
+    private JwtService jwtService;
+    private JwtService uncachedJwtService;
+    private User user;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 900000L, 604800000L, 10000L, 300000L, new SimpleMeterRegistry());
+        uncachedJwtService = new JwtService(SECRET, 900000L, 604800000L, 0L, 300000L, new SimpleMeterRegistry());
+        user = new User(UUID.randomUUID(), "bench@example.com", "bench", "hash", UserRole.USER);
+        token = jwtService.generateAccessToken(user);
+        claims = jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtService.generateAccessToken(user);
+    }
+
+    @Benchmark
+    public Claims parseCached() {
+        return jwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseUncached() {
+        return uncachedJwtService.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public Boolean validateClaims() {
+        return jwtService.validateToken(claims, user.getEmail());
+    }
+
+    @Benchmark
+    public Boolean parseAndValidate() {
+        return jwtService.validateToken(token, user.getEmail());
+    }
+}
@@ -0,0 +1,109 @@
+package com.coursework.calendar.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.coursework.calendar.api.contact.dto.ContactRequestResponse;
+import com.coursework.calendar.api.event.dto.EventResponse;
+import com.coursework.calendar.api.invitation.dto.InvitationResponse;
+import com.coursework.calendar.api.user.dto.UserResponse;
+import com.coursework.calendar.entities.contact.ContactRequest;
+import com.coursework.calendar.entities.contact.ContactRequestStatus;
+import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.event.EventStatus;
+import com.coursework.calendar.entities.invitation.Invitation;
+import com.coursework.calendar.entities.invitation.InvitationStatus;
+import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.mapper.ContactMapper;
+import com.coursework.calendar.mapper.EventMapper;
+import com.coursework.calendar.mapper.InvitationMapper;
+import com.coursework.calendar.mapper.UserMapper;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Преобразование сущностей в DTO и сериализация DTO в JSON тем же Jackson 3,
+ * что использует Spring MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    private JsonMapper jsonMapper;
+    private Event event;
+    private Invitation invitation;
+    private ContactRequest contactRequest;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 10, 9, 0);
+        UUID ownerId = UUID.randomUUID();
+        event = new Event(UUID.randomUUID(), "Weekly sync", "Agenda: status updates and planning", now,
+                now.plusHours(1), ownerId, now, EventStatus.PUBLISHED);
+        event.setRecurrenceRule("FREQ=WEEKLY;COUNT=10");
+        event.setRecurrenceExceptions("2025-01-24T09:00,2025-02-07T09:00");
+        invitation = new Invitation(UUID.randomUUID(), event.getId(), UUID.randomUUID(), now,
+                InvitationStatus.PENDING);
+        contactRequest = new ContactRequest(UUID.randomUUID(), now, now.plusMinutes(5), ownerId,
+                UUID.randomUUID(), ContactRequestStatus.ACCEPTED);
+        user = new User(ownerId, "bench@example.com", "bench", "hash", UserRole.USER);
+    }
+
+    @Benchmark
+    public EventResponse eventToResponse() {
+        return EventMapper.toResponse(event);
+    }
+
+    @Benchmark
+    public InvitationResponse invitationToResponse() {
+        return InvitationMapper.toResponse(invitation);
+    }
+
+    @Benchmark
+    public ContactRequestResponse contactToResponse() {
+        return ContactMapper.toResponse(contactRequest);
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return UserMapper.toResponse(user);
+    }
+
+    @Benchmark
+    public byte[] eventToJson() {
+        return jsonMapper.writeValueAsBytes(EventMapper.toResponse(event));
+    }
+
+    @Benchmark
+    public byte[] invitationToJson() {
+        return jsonMapper.writeValueAsBytes(InvitationMapper.toResponse(invitation));
+    }
+
+    @Benchmark
+    public byte[] contactToJson() {
+        return jsonMapper.writeValueAsBytes(ContactMapper.toResponse(contactRequest));
+    }
+
+    @Benchmark
+    public byte[] userToJson() {
+        return jsonMapper.writeValueAsBytes(UserMapper.toResponse(user));
+    }
+}
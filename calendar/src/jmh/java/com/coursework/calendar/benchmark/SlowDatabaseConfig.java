@@ -0,0 +1,61 @@
+package com.coursework.calendar.benchmark;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Имитация медленной БД для нагрузочного бенчмарка: соединение из пула
+ * выдается с задержкой bench.db-latency мс и все это время занято, как при
+ * долгом запросе. Обертка ставится первой, под BulkheadDataSource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bench.db-latency")
+public class SlowDatabaseConfig {
+
+    @Bean
+    static SlowDataSourcePostProcessor slowDataSourcePostProcessor(@Value("${bench.db-latency}") long latencyMillis) {
+        return new SlowDataSourcePostProcessor(latencyMillis);
+    }
+
+    private static final class SlowDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+        private final long latencyMillis;
+
+        private SlowDataSourcePostProcessor(long latencyMillis) {
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource)) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection connection = super.getConnection();
+                    try {
+                        Thread.sleep(latencyMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return connection;
+                }
+            };
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
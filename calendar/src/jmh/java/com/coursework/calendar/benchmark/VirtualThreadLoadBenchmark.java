@@ -0,0 +1,118 @@
+package com.coursework.calendar.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.service.JwtService;
+import com.coursework.calendar.service.UserService;
+
+/**
+ * Нагрузка по HTTP на приложение с медленной БД (каждое соединение занято
+ * bench.db-latency мс): большинство клиентов запрашивают события (БД),
+ * несколько - автодополнение пользователей (без БД). Сравнивается пул потоков
+ * Tomcat, меньший числа клиентов, и виртуальные потоки с BulkheadDataSource:
+ * в первом случае запросы без БД ждут, пока освободится поток.
+ *
+ * Throughput дает число запросов в секунду, SampleTime - p99 по каждому типу.
+ * Потоки групп задаются в порядке методов: -tg autocomplete,events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+    private static final int DB_LATENCY_MILLIS = 20;
+    private static final int PLATFORM_THREADS = 20;
+
+    @Param({ "false", "true" })
+    private boolean virtualThreads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest eventsRequest;
+    private HttpRequest autocompleteRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                "--bench.db-latency=" + DB_LATENCY_MILLIS);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        User user = new User();
+        user.setUsername("load");
+        user.setEmail("load@example.com");
+        user.setPasswordHash("password123");
+        user.setRole(UserRole.USER);
+        user.setCreatedAt(LocalDateTime.now());
+        user = context.getBean(UserService.class).createUser(user);
+        String authorization = "Bearer " + context.getBean(JwtService.class).generateAccessToken(user);
+
+        String base = "http://localhost:" + port;
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        eventsRequest = HttpRequest.newBuilder(URI.create(base + "/api/events?ownerId=" + user.getId()
+                + "&from=" + from + "&to=" + from.plusMonths(1)))
+                .header("Authorization", authorization)
+                .build();
+        autocompleteRequest = HttpRequest.newBuilder(URI.create(base + "/api/users/autocomplete?q=sys"))
+                .header("Authorization", authorization)
+                .build();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(60)
+    public int events() throws IOException, InterruptedException {
+        return send(eventsRequest);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public int autocomplete() throws IOException, InterruptedException {
+        return send(autocompleteRequest);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,14 +16,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
 
 import com.coursework.calendar.api.contact.dto.ContactRequestResponse;
 import com.coursework.calendar.api.contact.dto.ContactRequestRs;
+import com.coursework.calendar.entities.contact.ContactRequestStatus;
 import com.coursework.calendar.mapper.ContactMapper;
+import com.coursework.calendar.pagination.CursorPage;
 import com.coursework.calendar.service.ContactService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -41,7 +49,7 @@ public class ContactController {
     }
 
     @GetMapping
-    @Operation(summary = "Получить все запросы на контакты", description = "Возвращает список всех запросов на добавление в контакты")
+    @Operation(summary = "Получить первые запросы на контакты", description = "Возвращает первые 100 запросов на добавление в контакты в порядке создания; остальные - через /api/contacts/page")
     @ApiResponse(responseCode = "200", description = "Успешное получение списка запросов",
             content = @Content(schema = @Schema(implementation = ContactRequestResponse.class)))
     public List<ContactRequestResponse> getAllContactRequests() {
@@ -50,6 +58,22 @@ public class ContactController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Получить страницу запросов на контакты", description = "Возвращает запросы на добавление в контакты в порядке создания с keyset-пагинацией")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Успешное получение страницы запросов"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор")
+    })
+    public CursorPage<ContactRequestResponse> getContactRequestsPage(
+            @Parameter(description = "Курсор, полученный в nextCursor предыдущей страницы") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы (не более 100)") @RequestParam(defaultValue = "20") int size) {
+        try {
+            return contactService.getContactRequestsPage(cursor, size).map(ContactMapper::toResponse);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Получить запрос на контакт по ID", description = "Возвращает запрос на добавление в контакты по указанному идентификатору")
     @ApiResponses(value = {
@@ -62,7 +86,9 @@ public class ContactController {
         return ContactMapper.toResponse(contactService.getContactRequestById(id));
     }
 
-    @GetMapping("/user/{userId}")
+    // Полный список отдается только на запрос без параметров: с page, size, sort
+    // или status запрос уходит в постраничный обработчик, а не теряет фильтр
+    @GetMapping(value = "/user/{userId}", params = { "!page", "!size", "!sort", "!status" })
     @Operation(summary = "Получить запросы на контакты пользователя", description = "Возвращает все запросы на добавление в контакты для указанного пользователя")
     @ApiResponse(responseCode = "200", description = "Успешное получение запросов пользователя",
             content = @Content(schema = @Schema(implementation = ContactRequestResponse.class)))
@@ -73,6 +99,25 @@ public class ContactController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/user/{userId}")
+    @Operation(summary = "Получить страницу запросов на контакты пользователя", description = "Возвращает входящие и исходящие запросы пользователя с фильтром по статусу и постраничной выдачей; без page - первая страница")
+    @ApiResponse(responseCode = "200", description = "Успешное получение страницы запросов пользователя")
+    public Slice<ContactRequestResponse> getContactRequestsByUserIdPage(
+            @Parameter(description = "Идентификатор пользователя", required = true) @PathVariable UUID userId,
+            @Parameter(description = "Статусы запросов, по умолчанию любые") @RequestParam(required = false) List<ContactRequestStatus> status,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return contactService.getContactRequestsByUserId(userId, status, pageable)
+                .map(ContactMapper::toResponse);
+    }
+
+    @GetMapping("/user/{userId}/accepted")
+    @Operation(summary = "Получить контакты пользователя", description = "Возвращает идентификаторы пользователей, с которыми у пользователя принят запрос на контакт")
+    @ApiResponse(responseCode = "200", description = "Успешное получение контактов пользователя")
+    public List<UUID> getContactIds(
+            @Parameter(description = "Идентификатор пользователя", required = true) @PathVariable UUID userId) {
+        return contactService.getContactIds(userId);
+    }
+
     @PostMapping
     @Operation(summary = "Создать запрос на контакт", description = "Создает новый запрос на добавление в контакты")
     @ApiResponses(value = {
@@ -99,13 +144,18 @@ public class ContactController {
             @ApiResponse(responseCode = "200", description = "Запрос успешно обновлен",
                     content = @Content(schema = @Schema(implementation = ContactRequestResponse.class))),
             @ApiResponse(responseCode = "404", description = "Запрос не найден"),
-            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса")
+            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса"),
+            @ApiResponse(responseCode = "409", description = "Активный запрос между этими пользователями уже существует")
     })
     public ContactRequestResponse updateContactRequest(
             @Parameter(description = "Идентификатор запроса", required = true) @PathVariable UUID id,
             @Parameter(description = "Обновленные данные запроса", required = true) @Valid @RequestBody ContactRequestRs contactRequestRs) {
-        return ContactMapper
-                .toResponse(contactService.updateContactRequest(id, ContactMapper.toEntity(contactRequestRs)));
+        try {
+            return ContactMapper
+                    .toResponse(contactService.updateContactRequest(id, ContactMapper.toEntity(contactRequestRs)));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
     }
 
     @DeleteMapping("/{id}")
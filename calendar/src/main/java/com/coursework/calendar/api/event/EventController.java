@@ -1,27 +1,42 @@
 package com.coursework.calendar.api.event;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
+import com.coursework.calendar.api.event.dto.EventConflictResponse;
 import com.coursework.calendar.api.event.dto.EventRequest;
 import com.coursework.calendar.api.event.dto.EventResponse;
+import com.coursework.calendar.api.event.dto.EventSummaryResponse;
 import com.coursework.calendar.mapper.EventMapper;
+import com.coursework.calendar.pagination.CursorPage;
+import com.coursework.calendar.scheduling.EventConflictException;
 import com.coursework.calendar.service.EventService;
+import com.coursework.calendar.service.UserDataVersions;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,33 +45,130 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequestMapping("/api/events")
 @Tag(name = "События", description = "API для управления событиями календаря")
 public class EventController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final EventService eventService;
+    private final UserDataVersions userDataVersions;
+    private final JsonMapper jsonMapper;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, UserDataVersions userDataVersions, JsonMapper jsonMapper) {
         this.eventService = eventService;
+        this.userDataVersions = userDataVersions;
+        this.jsonMapper = jsonMapper;
     }
 
     @GetMapping
-    @Operation(summary = "Получить все события", description = "Возвращает список всех событий")
-    @ApiResponse(responseCode = "200", description = "Успешное получение списка событий", content = @Content(schema = @Schema(implementation = EventResponse.class)))
-    public List<EventResponse> getAllEvents() {
+    @Operation(summary = "Получить первые события", description = "Возвращает первые 100 событий без описаний в порядке создания; остальные - через /api/events/page")
+    @ApiResponse(responseCode = "200", description = "Успешное получение списка событий", content = @Content(schema = @Schema(implementation = EventSummaryResponse.class)))
+    public List<EventSummaryResponse> getAllEvents() {
         return eventService.getAllEvents().stream()
                 .map(EventMapper::toResponse)
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Получить страницу событий", description = "Возвращает события без описаний в порядке создания с keyset-пагинацией")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Успешное получение страницы событий"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор")
+    })
+    public CursorPage<EventSummaryResponse> getEventsPage(
+            @Parameter(description = "Курсор, полученный в nextCursor предыдущей страницы") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы (не более 100)") @RequestParam(defaultValue = "20") int size) {
+        try {
+            return eventService.getEventsPage(cursor, size).map(EventMapper::toResponse);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Выгрузить все события", description = "Потоково выгружает все события в формате NDJSON (по событию на строку) или JSON-массива")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Выгрузка событий"),
+            @ApiResponse(responseCode = "400", description = "Неизвестный формат")
+    })
+    public ResponseEntity<StreamingResponseBody> exportEvents(
+            @Parameter(description = "Формат выгрузки: ndjson или json") @RequestParam(defaultValue = "ndjson") String format) {
+        boolean ndjson;
+        if ("ndjson".equalsIgnoreCase(format)) {
+            ndjson = true;
+        } else if ("json".equalsIgnoreCase(format)) {
+            ndjson = false;
+        } else {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unknown export format: " + format);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            // Разделитель строк NDJSON пишется вручную, стандартный пробел между значениями не нужен
+            ObjectWriter writer = jsonMapper.writer().withRootValueSeparator("");
+            try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+                if (!ndjson) {
+                    generator.writeStartArray();
+                }
+                eventService.exportEvents(event -> {
+                    writer.writeValue(generator, EventMapper.toResponse(event));
+                    if (ndjson) {
+                        generator.writeRaw('\n');
+                    }
+                });
+                if (!ndjson) {
+                    generator.writeEndArray();
+                }
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @GetMapping(params = { "ownerId", "from", "to" })
+    @Operation(summary = "Получить события пользователя за период", description = "Возвращает события владельца, пересекающие временное окно [from, to). Повторяющиеся события разворачиваются в отдельные повторения внутри окна. Описания событий не возвращаются")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Успешное получение списка событий", content = @Content(schema = @Schema(implementation = EventSummaryResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректный временной интервал или окно шире 366 дней")
+    })
+    public List<EventSummaryResponse> getEventsInRange(
+            @Parameter(description = "Идентификатор владельца", required = true) @RequestParam UUID ownerId,
+            @Parameter(description = "Начало окна (ISO-8601)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Конец окна (ISO-8601)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return eventService.getEventsInRange(ownerId, from, to).stream()
+                    .map(EventMapper::toResponse)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @GetMapping("/user/{userId}")
-    @Operation(summary = "Получить все события пользователя", description = "Возвращает список всех событий пользователя")
-    @ApiResponse(responseCode = "200", description = "Успешное получение списка событий пользователя", content = @Content(schema = @Schema(implementation = EventResponse.class)))
-    public List<EventResponse> getUserEvents(@PathVariable UUID userId) {
-        return eventService.getEventsByUserId(userId).stream()
+    @Operation(summary = "Получить все события пользователя", description = "Возвращает список всех событий пользователя без описаний")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Успешное получение списка событий пользователя", content = @Content(schema = @Schema(implementation = EventSummaryResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Список не изменился с версии из If-None-Match")
+    })
+    public ResponseEntity<List<EventSummaryResponse>> getUserEvents(@PathVariable UUID userId, WebRequest request) {
+        // Версия проверяется до запроса к БД: при совпадении ETag список не читается
+        String eTag = userDataVersions.eTag(UserDataVersions.Kind.EVENTS, userId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        List<EventSummaryResponse> events = eventService.getEventsByUserId(userId).stream()
                 .map(EventMapper::toResponse)
                 .collect(Collectors.toList());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(eTag)
+                .body(events);
     }
 
     @GetMapping("/{id}")
@@ -74,12 +186,36 @@ public class EventController {
     @Operation(summary = "Создать событие", description = "Создает новое событие в календаре")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Событие успешно создано", content = @Content(schema = @Schema(implementation = EventResponse.class))),
-            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса")
+            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса"),
+            @ApiResponse(responseCode = "409", description = "Событие пересекается с другими событиями владельца", content = @Content(schema = @Schema(implementation = EventConflictResponse.class)))
     })
     @ResponseStatus(HttpStatus.CREATED)
     public EventResponse createEvent(
-            @Parameter(description = "Данные события", required = true) @Valid @RequestBody EventRequest eventRequest) {
-        return EventMapper.toResponse(eventService.createEvent(EventMapper.toEntity(eventRequest)));
+            @Parameter(description = "Данные события", required = true) @Valid @RequestBody EventRequest eventRequest,
+            @Parameter(description = "Отклонить событие, если оно пересекается с другими событиями владельца") @RequestParam(defaultValue = "false") boolean checkConflicts) {
+        try {
+            return EventMapper.toResponse(eventService.createEvent(EventMapper.toEntity(eventRequest), checkConflicts));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping("/conflicts")
+    @Operation(summary = "Проверить конфликты события", description = "Возвращает повторения событий владельца и принятых им приглашений, пересекающиеся с переданным событием. Событие не сохраняется")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Список конфликтующих событий", content = @Content(schema = @Schema(implementation = EventResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса")
+    })
+    public List<EventResponse> getConflicts(
+            @Parameter(description = "Проверяемое событие", required = true) @Valid @RequestBody EventRequest eventRequest,
+            @Parameter(description = "Событие, которое не считается конфликтом (при редактировании)") @RequestParam(required = false) UUID excludeEventId) {
+        try {
+            return eventService.findConflicts(EventMapper.toEntity(eventRequest), excludeEventId).stream()
+                    .map(EventMapper::toResponse)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     @PutMapping("/{id}")
@@ -87,12 +223,18 @@ public class EventController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Событие успешно обновлено", content = @Content(schema = @Schema(implementation = EventResponse.class))),
             @ApiResponse(responseCode = "404", description = "Событие не найдено"),
-            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса")
+            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса"),
+            @ApiResponse(responseCode = "409", description = "Событие пересекается с другими событиями владельца", content = @Content(schema = @Schema(implementation = EventConflictResponse.class)))
     })
     public EventResponse updateEvent(
             @Parameter(description = "Идентификатор события", required = true) @PathVariable UUID id,
-            @Parameter(description = "Обновленные данные события", required = true) @Valid @RequestBody EventRequest eventRequest) {
-        return EventMapper.toResponse(eventService.updateEvent(id, EventMapper.toEntity(eventRequest)));
+            @Parameter(description = "Обновленные данные события", required = true) @Valid @RequestBody EventRequest eventRequest,
+            @Parameter(description = "Отклонить изменения, если событие пересечется с другими событиями владельца") @RequestParam(defaultValue = "false") boolean checkConflicts) {
+        try {
+            return EventMapper.toResponse(eventService.updateEvent(id, EventMapper.toEntity(eventRequest), checkConflicts));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 
     @DeleteMapping("/{id}")
@@ -106,4 +248,12 @@ public class EventController {
             @Parameter(description = "Идентификатор события", required = true) @PathVariable UUID id) {
         eventService.deleteEvent(id);
     }
+
+    @ExceptionHandler(EventConflictException.class)
+    public ResponseEntity<EventConflictResponse> handleConflict(EventConflictException e) {
+        List<EventResponse> conflicts = e.getConflicts().stream()
+                .map(EventMapper::toResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new EventConflictResponse(e.getMessage(), conflicts));
+    }
 }
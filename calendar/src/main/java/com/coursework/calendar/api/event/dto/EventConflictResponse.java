@@ -0,0 +1,6 @@
+package com.coursework.calendar.api.event.dto;
+
+import java.util.List;
+
+public record EventConflictResponse(String message, List<EventResponse> conflicts) {
+}
@@ -1,6 +1,7 @@
 package com.coursework.calendar.api.event.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import com.coursework.calendar.entities.event.EventStatus;
@@ -21,5 +22,8 @@ public record EventRequest(
         @NotNull(message = "ID владельца обязателен")
         UUID ownerId,
         @NotNull(message = "Статус события обязателен")
-        EventStatus status) {
+        EventStatus status,
+        // Необязательное правило повторения, например FREQ=WEEKLY;COUNT=10
+        String recurrenceRule,
+        List<LocalDateTime> recurrenceExceptions) {
 }
@@ -0,0 +1,15 @@
+package com.coursework.calendar.api.event.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.coursework.calendar.entities.event.EventStatus;
+
+/**
+ * Событие в списке: без описания, оно возвращается только в EventResponse.
+ */
+public record EventSummaryResponse(UUID id, String title, LocalDateTime startTime, LocalDateTime endTime,
+        UUID ownerId, LocalDateTime createdAt, EventStatus status, String recurrenceRule,
+        List<LocalDateTime> recurrenceExceptions) {
+}
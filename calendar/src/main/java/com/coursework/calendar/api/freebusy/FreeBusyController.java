@@ -0,0 +1,50 @@
+package com.coursework.calendar.api.freebusy;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import jakarta.validation.Valid;
+
+import com.coursework.calendar.api.freebusy.dto.FreeBusyRequest;
+import com.coursework.calendar.api.freebusy.dto.FreeBusyResponse;
+import com.coursework.calendar.mapper.FreeBusyMapper;
+import com.coursework.calendar.service.FreeBusyService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/freebusy")
+@Tag(name = "Занятость", description = "API для подбора времени встречи")
+public class FreeBusyController {
+    private final FreeBusyService freeBusyService;
+
+    public FreeBusyController(FreeBusyService freeBusyService) {
+        this.freeBusyService = freeBusyService;
+    }
+
+    @PostMapping
+    @Operation(summary = "Получить занятость пользователей", description = "Возвращает объединенные интервалы занятости каждого пользователя в окне [from, to) и общие свободные промежутки")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Занятость рассчитана", content = @Content(schema = @Schema(implementation = FreeBusyResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Некорректное окно или список пользователей")
+    })
+    public FreeBusyResponse getFreeBusy(
+            @Parameter(description = "Пользователи и временное окно", required = true) @Valid @RequestBody FreeBusyRequest request) {
+        try {
+            return FreeBusyMapper.toResponse(
+                    freeBusyService.getFreeBusy(request.userIds(), request.from(), request.to()));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+}
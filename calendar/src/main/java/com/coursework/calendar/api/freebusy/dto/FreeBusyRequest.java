@@ -0,0 +1,17 @@
+package com.coursework.calendar.api.freebusy.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record FreeBusyRequest(
+        @NotEmpty(message = "Список пользователей обязателен")
+        List<@NotNull UUID> userIds,
+        @NotNull(message = "Начало окна обязательно")
+        LocalDateTime from,
+        @NotNull(message = "Конец окна обязателен")
+        LocalDateTime to) {
+}
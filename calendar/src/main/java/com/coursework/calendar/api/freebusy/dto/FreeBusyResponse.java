@@ -0,0 +1,8 @@
+package com.coursework.calendar.api.freebusy.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record FreeBusyResponse(LocalDateTime from, LocalDateTime to, List<UserBusyResponse> users,
+        List<TimeIntervalResponse> free) {
+}
@@ -0,0 +1,6 @@
+package com.coursework.calendar.api.freebusy.dto;
+
+import java.time.LocalDateTime;
+
+public record TimeIntervalResponse(LocalDateTime start, LocalDateTime end) {
+}
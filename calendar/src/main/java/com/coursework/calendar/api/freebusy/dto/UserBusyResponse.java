@@ -0,0 +1,7 @@
+package com.coursework.calendar.api.freebusy.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record UserBusyResponse(UUID userId, List<TimeIntervalResponse> busy) {
+}
@@ -4,7 +4,9 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,15 +14,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
 
+import com.coursework.calendar.api.invitation.dto.InvitationBatchRequest;
+import com.coursework.calendar.api.invitation.dto.InvitationBatchResultResponse;
 import com.coursework.calendar.api.invitation.dto.InvitationRequest;
 import com.coursework.calendar.api.invitation.dto.InvitationResponse;
+import com.coursework.calendar.entities.invitation.InvitationStatus;
 import com.coursework.calendar.mapper.InvitationMapper;
+import com.coursework.calendar.pagination.CursorPage;
 import com.coursework.calendar.service.InvitationService;
+import com.coursework.calendar.service.UserDataVersions;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,13 +45,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Приглашения", description = "API для управления приглашениями на события")
 public class InvitationController {
     private final InvitationService invitationService;
+    private final UserDataVersions userDataVersions;
 
-    public InvitationController(InvitationService invitationService) {
+    public InvitationController(InvitationService invitationService, UserDataVersions userDataVersions) {
         this.invitationService = invitationService;
+        this.userDataVersions = userDataVersions;
     }
 
     @GetMapping
-    @Operation(summary = "Получить все приглашения", description = "Возвращает список всех приглашений")
+    @Operation(summary = "Получить первые приглашения", description = "Возвращает первые 100 приглашений в порядке создания; остальные - через /api/invitations/page")
     @ApiResponse(responseCode = "200", description = "Успешное получение списка приглашений", content = @Content(schema = @Schema(implementation = InvitationResponse.class)))
     public List<InvitationResponse> getAllInvitations() {
         return invitationService.getAllInvitations().stream()
@@ -49,6 +61,22 @@ public class InvitationController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "Получить страницу приглашений", description = "Возвращает приглашения в порядке создания с keyset-пагинацией")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Успешное получение страницы приглашений"),
+            @ApiResponse(responseCode = "400", description = "Некорректный курсор")
+    })
+    public CursorPage<InvitationResponse> getInvitationsPage(
+            @Parameter(description = "Курсор, полученный в nextCursor предыдущей страницы") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Размер страницы (не более 100)") @RequestParam(defaultValue = "20") int size) {
+        try {
+            return invitationService.getInvitationsPage(cursor, size).map(InvitationMapper::toResponse);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Получить приглашение по ID", description = "Возвращает приглашение по указанному идентификатору")
     @ApiResponses(value = {
@@ -62,25 +90,65 @@ public class InvitationController {
 
     @GetMapping("/user/{userId}")
     @Operation(summary = "Получить приглашения пользователя", description = "Возвращает все приглашения для указанного пользователя")
-    @ApiResponse(responseCode = "200", description = "Успешное получение приглашений пользователя", content = @Content(schema = @Schema(implementation = InvitationResponse.class)))
-    public List<InvitationResponse> getInvitationsByUserId(
-            @Parameter(description = "Идентификатор пользователя", required = true) @PathVariable UUID userId) {
-        return invitationService.getInvitationsByUserId(userId).stream()
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Успешное получение приглашений пользователя", content = @Content(schema = @Schema(implementation = InvitationResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Список не изменился с версии из If-None-Match")
+    })
+    public ResponseEntity<List<InvitationResponse>> getInvitationsByUserId(
+            @Parameter(description = "Идентификатор пользователя", required = true) @PathVariable UUID userId,
+            WebRequest request) {
+        // Версия проверяется до запроса к БД: при совпадении ETag список не читается
+        String eTag = userDataVersions.eTag(UserDataVersions.Kind.INVITATIONS, userId);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        List<InvitationResponse> invitations = invitationService.getInvitationsByUserId(userId).stream()
                 .map(InvitationMapper::toResponse)
                 .collect(Collectors.toList());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(eTag)
+                .body(invitations);
     }
 
     @PostMapping
     @Operation(summary = "Создать приглашение", description = "Создает новое приглашение на событие")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Приглашение успешно создано", content = @Content(schema = @Schema(implementation = InvitationResponse.class))),
-            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса")
+            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса"),
+            @ApiResponse(responseCode = "409", description = "Пользователь уже приглашен на это событие")
     })
     @ResponseStatus(HttpStatus.CREATED)
     public InvitationResponse createInvitation(
             @Parameter(description = "Данные приглашения", required = true) @Valid @RequestBody InvitationRequest invitationRequest) {
-        return InvitationMapper
-                .toResponse(invitationService.createInvitation(InvitationMapper.toEntity(invitationRequest)));
+        try {
+            return InvitationMapper
+                    .toResponse(invitationService.createInvitation(InvitationMapper.toEntity(invitationRequest)));
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Пригласить пользователей на событие", description = "Создает приглашения для списка пользователей в одной транзакции. Уже приглашенные и несуществующие пользователи пропускаются, результат возвращается по каждому пользователю")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Приглашения обработаны"),
+            @ApiResponse(responseCode = "400", description = "Некорректные данные запроса или событие не найдено"),
+            @ApiResponse(responseCode = "409", description = "Параллельный запрос уже пригласил кого-то из списка, пакет не сохранен")
+    })
+    @ResponseStatus(HttpStatus.CREATED)
+    public List<InvitationBatchResultResponse> createInvitations(
+            @Parameter(description = "Событие и список пользователей", required = true) @Valid @RequestBody InvitationBatchRequest batchRequest) {
+        InvitationStatus status = batchRequest.status() != null ? batchRequest.status() : InvitationStatus.PENDING;
+        try {
+            return invitationService.createInvitations(batchRequest.eventId(), batchRequest.userIds(), status).stream()
+                    .map(InvitationMapper::toResponse)
+                    .collect(Collectors.toList());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
     }
 
     @PutMapping("/{id}")
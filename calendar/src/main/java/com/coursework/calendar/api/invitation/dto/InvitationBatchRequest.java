@@ -0,0 +1,18 @@
+package com.coursework.calendar.api.invitation.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.coursework.calendar.entities.invitation.InvitationStatus;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+public record InvitationBatchRequest(
+        @NotNull(message = "ID события обязателен")
+        UUID eventId,
+        @NotEmpty(message = "Список пользователей обязателен")
+        List<@NotNull UUID> userIds,
+        // Если не указан, приглашения создаются в статусе PENDING
+        InvitationStatus status) {
+}
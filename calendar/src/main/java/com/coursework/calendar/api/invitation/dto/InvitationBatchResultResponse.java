@@ -0,0 +1,9 @@
+package com.coursework.calendar.api.invitation.dto;
+
+import java.util.UUID;
+
+import com.coursework.calendar.service.InvitationBatchResult;
+
+public record InvitationBatchResultResponse(UUID userId, InvitationBatchResult.Outcome outcome,
+        InvitationResponse invitation) {
+}
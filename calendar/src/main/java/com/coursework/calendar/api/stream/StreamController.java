@@ -0,0 +1,76 @@
+package com.coursework.calendar.api.stream;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.coursework.calendar.api.stream.dto.ChangeNotificationResponse;
+import com.coursework.calendar.config.CurrentUser;
+import com.coursework.calendar.mapper.ChangeNotificationMapper;
+import com.coursework.calendar.service.ChangeNotification;
+import com.coursework.calendar.service.ChangeStreamService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/stream")
+@Tag(name = "Уведомления", description = "Поток изменений приглашений и запросов в контакты")
+public class StreamController {
+    private final ChangeStreamService changeStreamService;
+    private final long timeout;
+
+    public StreamController(ChangeStreamService changeStreamService,
+            @Value("${stream.timeout:1800000}") long timeout) {
+        this.changeStreamService = changeStreamService;
+        this.timeout = timeout;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Подписаться на изменения", description = "Server-Sent Events: invitation и contact-request при создании "
+            + "или изменении приглашения или запроса в контакты текущего пользователя, resync - если часть уведомлений "
+            + "пропущена и данные нужно перечитать. Вместо периодического опроса списков")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Поток открыт", content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = ChangeNotificationResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Пользователь не аутентифицирован")
+    })
+    public SseEmitter stream(@CurrentUser UUID userId) throws IOException {
+        SseEmitter emitter = new SseEmitter(timeout);
+        ChangeStreamService.Subscription subscription = changeStreamService.subscribe(userId, new EmitterSink(emitter));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        // Первый комментарий сразу отправляет заголовки ответа клиенту
+        emitter.send(SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements ChangeStreamService.ChangeSink {
+        @Override
+        public void send(ChangeNotification notification) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .name(ChangeNotificationMapper.toEventName(notification))
+                    .data(ChangeNotificationMapper.toResponse(notification), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("ping"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.coursework.calendar.api.stream.dto;
+
+import java.util.UUID;
+
+public record ChangeNotificationResponse(String type, UUID id, String status) {
+}
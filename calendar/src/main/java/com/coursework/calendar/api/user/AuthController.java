@@ -1,12 +1,12 @@
 package com.coursework.calendar.api.user;
 
+import java.util.UUID;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,7 +21,10 @@ import com.coursework.calendar.api.user.dto.AuthResponse;
 import com.coursework.calendar.api.user.dto.UserCreateRequest;
 import com.coursework.calendar.api.user.dto.UserLoginRequest;
 import com.coursework.calendar.api.user.dto.UserResponse;
+import com.coursework.calendar.config.CurrentUser;
+import com.coursework.calendar.config.PasswordHashingBusyException;
 import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserSummary;
 import com.coursework.calendar.mapper.UserMapper;
 import com.coursework.calendar.service.JwtService;
 import com.coursework.calendar.service.UserService;
@@ -70,7 +73,8 @@ public class AuthController {
     @Operation(summary = "Авторизация пользователя", description = "Авторизует пользователя по email и паролю")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Успешная авторизация", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
-            @ApiResponse(responseCode = "401", description = "Неверный email или пароль")
+            @ApiResponse(responseCode = "401", description = "Неверный email или пароль"),
+            @ApiResponse(responseCode = "429", description = "Слишком много одновременных входов, повторите позже")
     })
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody UserLoginRequest userLoginRequest,
             HttpServletResponse response) {
@@ -93,6 +97,8 @@ public class AuthController {
             AuthResponse authResponse = new AuthResponse(accessToken, user.getId(), user.getEmail(),
                     user.getUsername());
             return ResponseEntity.ok(authResponse);
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
@@ -104,7 +110,8 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Успешная регистрация"),
             @ApiResponse(responseCode = "400", description = "Некорректные данные запроса"),
             @ApiResponse(responseCode = "403", description = "Регистрация отключена в режиме nopass"),
-            @ApiResponse(responseCode = "409", description = "Пользователь уже существует")
+            @ApiResponse(responseCode = "409", description = "Пользователь уже существует"),
+            @ApiResponse(responseCode = "429", description = "Слишком много одновременных регистраций, повторите позже")
     })
     public ResponseEntity<Void> register(@Valid @RequestBody UserCreateRequest userCreateRequest) {
         // В профиле nopass регистрация отключена
@@ -119,6 +126,8 @@ public class AuthController {
             try {
                 userService.createUser(UserMapper.toEntity(userCreateRequest));
                 return ResponseEntity.ok().build();
+            } catch (PasswordHashingBusyException ex) {
+                throw ex;
             } catch (Exception ex) {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
             }
@@ -205,14 +214,13 @@ public class AuthController {
             @ApiResponse(responseCode = "200", description = "Информация о пользователе", content = @Content(schema = @Schema(implementation = UserResponse.class))),
             @ApiResponse(responseCode = "401", description = "Не авторизован")
     })
-    public ResponseEntity<UserResponse> getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
+    public ResponseEntity<UserResponse> getCurrentUser(@CurrentUser(required = false) UUID currentUserId) {
+        if (currentUserId == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
         }
 
-        String email = authentication.getName();
-        User user = userService.getUserByEmail(email);
+        // Ответ содержит поля, которых нет в токене, поэтому пользователь читается по первичному ключу
+        UserSummary user = userService.getUserSummaryById(currentUserId);
         return ResponseEntity.ok(UserMapper.toResponse(user));
     }
 }
@@ -1,13 +1,12 @@
 package com.coursework.calendar.api.user;
 
+import java.util.List;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -17,13 +16,17 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
 
 import com.coursework.calendar.api.user.dto.UserResponse;
+import com.coursework.calendar.api.user.dto.UserSuggestionResponse;
 import com.coursework.calendar.api.user.dto.UserUpdateRequest;
-import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.config.CurrentUser;
 import com.coursework.calendar.mapper.UserMapper;
+import com.coursework.calendar.pagination.CursorPage;
+import com.coursework.calendar.service.UserAutocompleteService;
 import com.coursework.calendar.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -39,20 +42,38 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Пользователи", description = "API для управления пользователями")
 public class UserController {
         private final UserService userService;
+        private final UserAutocompleteService userAutocompleteService;
 
-        public UserController(UserService userService) {
+        public UserController(UserService userService, UserAutocompleteService userAutocompleteService) {
                 this.userService = userService;
+                this.userAutocompleteService = userAutocompleteService;
         }
 
         @GetMapping
-        @Operation(summary = "Получить всех пользователей", description = "Возвращает список всех пользователей")
+        @Operation(summary = "Получить первых пользователей", description = "Возвращает первых 100 пользователей в порядке регистрации; остальные - через /api/users/page")
         @ApiResponse(responseCode = "200", description = "Успешное получение списка пользователей", content = @Content(schema = @Schema(implementation = UserResponse.class)))
-        public java.util.List<UserResponse> getAllUsers() {
+        public List<UserResponse> getAllUsers() {
                 return userService.getAllUsers().stream()
                                 .map(UserMapper::toResponse)
                                 .toList();
         }
 
+        @GetMapping("/page")
+        @Operation(summary = "Получить страницу пользователей", description = "Возвращает пользователей в порядке регистрации с keyset-пагинацией")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Успешное получение страницы пользователей"),
+                        @ApiResponse(responseCode = "400", description = "Некорректный курсор")
+        })
+        public CursorPage<UserResponse> getUsersPage(
+                        @Parameter(description = "Курсор, полученный в nextCursor предыдущей страницы") @RequestParam(required = false) String cursor,
+                        @Parameter(description = "Размер страницы (не более 100)") @RequestParam(defaultValue = "20") int size) {
+                try {
+                        return userService.getUsersPage(cursor, size).map(UserMapper::toResponse);
+                } catch (IllegalArgumentException e) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+                }
+        }
+
         @GetMapping("/{id}")
         @Operation(summary = "Получить пользователя по ID", description = "Возвращает пользователя по указанному идентификатору")
         @ApiResponses(value = {
@@ -61,7 +82,7 @@ public class UserController {
         })
         public UserResponse getUserById(
                         @Parameter(description = "Идентификатор пользователя", required = true) @PathVariable UUID id) {
-                return UserMapper.toResponse(userService.getUserById(id));
+                return UserMapper.toResponse(userService.getUserSummaryById(id));
         }
 
         @PutMapping("/{id}")
@@ -94,21 +115,25 @@ public class UserController {
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Успешный поиск", content = @Content(schema = @Schema(implementation = UserResponse.class)))
         })
-        public Page<UserResponse> searchUsers(
+        public Slice<UserResponse> searchUsers(
                         @Parameter(description = "Поисковый запрос (username или email)", required = true) @RequestParam String q,
-                        @PageableDefault(size = 20) Pageable pageable) {
-                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-                UUID currentUserId = null;
-                if (authentication != null && authentication.isAuthenticated()) {
-                        try {
-                                String email = authentication.getName();
-                                User currentUser = userService.getUserByEmail(email);
-                                currentUserId = currentUser.getId();
-                        } catch (RuntimeException e) {
-                                // Игнорируем, если пользователь не найден
-                        }
-                }
+                        @PageableDefault(size = 20) Pageable pageable,
+                        @CurrentUser(required = false) UUID currentUserId) {
                 return userService.searchUsers(q, currentUserId, pageable)
                                 .map(UserMapper::toResponse);
         }
+
+        @GetMapping("/autocomplete")
+        @Operation(summary = "Автодополнение пользователей", description = "Возвращает пользователей, у которых username, слово из username или email начинается с введенного текста. Отвечает из индекса в памяти без запросов к БД")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Успешное получение подсказок", content = @Content(schema = @Schema(implementation = UserSuggestionResponse.class)))
+        })
+        public List<UserSuggestionResponse> autocompleteUsers(
+                        @Parameter(description = "Начало username или email", required = true) @RequestParam String q,
+                        @Parameter(description = "Максимальное количество подсказок (1-" + UserAutocompleteService.MAX_LIMIT + ")") @RequestParam(defaultValue = "" + UserAutocompleteService.DEFAULT_LIMIT) int limit,
+                        @CurrentUser(required = false) UUID currentUserId) {
+                return userAutocompleteService.complete(q, currentUserId, limit).stream()
+                                .map(UserMapper::toResponse)
+                                .toList();
+        }
 }
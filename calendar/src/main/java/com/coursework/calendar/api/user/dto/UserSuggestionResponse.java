@@ -0,0 +1,7 @@
+package com.coursework.calendar.api.user.dto;
+
+import java.util.UUID;
+
+public record UserSuggestionResponse(UUID id, String email, String username) {
+
+}
@@ -0,0 +1,44 @@
+package com.coursework.calendar.config;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.coursework.calendar.entities.user.UserRole;
+
+/**
+ * Аутентифицированный пользователь в SecurityContext. Кроме email и роли
+ * хранит id, чтобы контроллерам не нужно было искать пользователя в БД
+ * только ради идентификатора (см. {@link CurrentUser}).
+ */
+public record AuthenticatedUser(UUID id, String email, UserRole role, String password) implements UserDetails {
+
+    public static AuthenticatedUser fromClaims(UUID id, String email, UserRole role) {
+        return new AuthenticatedUser(id, email, role, "");
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    // Хэш пароля не должен попадать в логи
+    @Override
+    public String toString() {
+        return "AuthenticatedUser[id=" + id + ", email=" + email + ", role=" + role + "]";
+    }
+}
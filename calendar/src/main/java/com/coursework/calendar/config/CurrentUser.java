@@ -0,0 +1,19 @@
+package com.coursework.calendar.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Параметр контроллера получает текущего пользователя из SecurityContext:
+ * {@link AuthenticatedUser} целиком или его id, если параметр типа UUID.
+ * Без аутентификации возвращается 401, а при required = false - null.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+    boolean required() default true;
+}
@@ -0,0 +1,49 @@
+package com.coursework.calendar.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Оборачивает DataSource в {@link BulkheadDataSource}. Обертка ставится
+ * последней, поверх остальных, чтобы ограничение действовало на все соединения.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class DataSourceBulkheadConfig {
+
+    @Bean
+    static DataSourceBulkheadPostProcessor dataSourceBulkheadPostProcessor(
+            @Value("${datasource.bulkhead.max-concurrent:10}") int maxConcurrent,
+            @Value("${datasource.bulkhead.acquire-timeout:5000}") long acquireTimeout) {
+        return new DataSourceBulkheadPostProcessor(maxConcurrent, acquireTimeout);
+    }
+
+    private static final class DataSourceBulkheadPostProcessor implements BeanPostProcessor, Ordered {
+        private final int maxConcurrent;
+        private final long acquireTimeout;
+
+        private DataSourceBulkheadPostProcessor(int maxConcurrent, long acquireTimeout) {
+            this.maxConcurrent = maxConcurrent;
+            this.acquireTimeout = acquireTimeout;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof BulkheadDataSource)) {
+                return new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeout);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.coursework.calendar.config;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Нет свободного соединения с БД (в том числе из-за ограничения
+ * BulkheadDataSource): это временная перегрузка, а не ошибка сервера,
+ * поэтому клиент получает 503 и может повторить запрос.
+ */
+@RestControllerAdvice
+public class DatabaseUnavailableHandler {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler({ CannotCreateTransactionException.class, DataAccessResourceFailureException.class })
+    public ResponseEntity<ProblemDetail> handleDatabaseUnavailable(Exception e) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE,
+                "Database is temporarily overloaded, retry later");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(problem);
+    }
+}
@@ -0,0 +1,133 @@
+package com.coursework.calendar.config;
+
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.service.UserChangedEvent;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.SharedCacheMode;
+
+/**
+ * Кэш второго уровня Hibernate для User и Event (read-write) и кэш запросов.
+ * Регионы - кэши Caffeine с ограничением по размеру и времени жизни записи;
+ * регионы, которых нет в этой конфигурации, Hibernate не создает.
+ *
+ * Изменения через Hibernate обновляют кэш сами. Исключение - события,
+ * удаляемые базой каскадом вместе с владельцем: их регион сбрасывается
+ * после удаления пользователя.
+ *
+ * Попадания и промахи по регионам публикуются Micrometer
+ * (hibernate.second.level.cache.requests) из статистики Hibernate.
+ *
+ * Пока hibernate-cache.enabled не включен, кэш второго уровня выключен явно:
+ * hibernate-jcache лежит в classpath, и иначе Hibernate создал бы для
+ * сущностей с @Cacheable регионы по умолчанию, без ограничения размера.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "hibernate-cache.enabled", havingValue = "false", matchIfMissing = true)
+    static class Disabled {
+
+        @Bean
+        HibernatePropertiesCustomizer hibernateCacheDisabledCustomizer() {
+            return properties -> {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                properties.put(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, SharedCacheMode.NONE);
+            };
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "hibernate-cache.enabled", havingValue = "true")
+    static class Enabled {
+
+        @Bean(destroyMethod = "close")
+        CacheManager hibernateCacheManager(
+                @Value("${hibernate-cache.users.max-size:10000}") long usersMaxSize,
+                @Value("${hibernate-cache.users.ttl:600000}") long usersTtl,
+                @Value("${hibernate-cache.events.max-size:50000}") long eventsMaxSize,
+                @Value("${hibernate-cache.events.ttl:600000}") long eventsTtl,
+                @Value("${hibernate-cache.queries.max-size:10000}") long queriesMaxSize,
+                @Value("${hibernate-cache.queries.ttl:600000}") long queriesTtl) {
+            CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                    .getCacheManager();
+            createRegion(cacheManager, User.CACHE_REGION, usersMaxSize, usersTtl);
+            createRegion(cacheManager, Event.CACHE_REGION, eventsMaxSize, eventsTtl);
+            createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                    queriesMaxSize, queriesTtl);
+            // Отметки последнего изменения таблиц: по одной на таблицу, вытеснять их нельзя
+            createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, -1, -1);
+            return cacheManager;
+        }
+
+        private static void createRegion(CacheManager cacheManager, String name, long maxSize, long ttl) {
+            if (cacheManager.getCache(name) != null) {
+                return;
+            }
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>()
+                    .setMaximumSize(maxSize > 0 ? OptionalLong.of(maxSize) : OptionalLong.empty())
+                    .setExpireAfterWrite(ttl > 0 ? OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttl)) : OptionalLong.empty())
+                    .setStatisticsEnabled(true);
+            cacheManager.createCache(name, configuration);
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+            return properties -> {
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+                properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+                properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+                properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+                // Статистика нужна для метрик попаданий в кэш
+                properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            };
+        }
+
+        @Bean
+        CascadeEviction hibernateCacheCascadeEviction(EntityManagerFactory entityManagerFactory) {
+            return new CascadeEviction(entityManagerFactory);
+        }
+    }
+
+    static final class CascadeEviction {
+        private final EntityManagerFactory entityManagerFactory;
+
+        private CascadeEviction(EntityManagerFactory entityManagerFactory) {
+            this.entityManagerFactory = entityManagerFactory;
+        }
+
+        /**
+         * События пользователя удаляются по ON DELETE CASCADE мимо Hibernate.
+         * Их id после удаления уже не найти, поэтому сбрасывается весь регион.
+         */
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onUserChanged(UserChangedEvent event) {
+            if (event.deleted()) {
+                entityManagerFactory.getCache().evict(Event.class);
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.coursework.calendar.config;
 
 import java.io.IOException;
+import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,8 +12,13 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.coursework.calendar.entities.user.UserRole;
 import com.coursework.calendar.service.JwtService;
+import com.coursework.calendar.service.UserAuthCache;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,10 +29,42 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserAuthCache userAuthCache;
+    private final boolean stateless;
+    private final PublicPathClassifier publicPaths;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    // Исходы фильтра для непубличных путей: запрос без токена, токен принят, токен отклонен
+    private final Counter skipped;
+    private final Counter authenticated;
+    private final Counter invalid;
+
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService,
+            UserAuthCache userAuthCache, @Value("${jwt.stateless:false}") boolean stateless,
+            PublicPathClassifier publicPaths, MeterRegistry meterRegistry) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.userAuthCache = userAuthCache;
+        this.stateless = stateless;
+        this.publicPaths = publicPaths;
+        this.skipped = outcomeCounter(meterRegistry, "skipped");
+        this.authenticated = outcomeCounter(meterRegistry, "authenticated");
+        this.invalid = outcomeCounter(meterRegistry, "invalid");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("jwt.authentication")
+                .description("Результат проверки JWT в фильтре")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Статические ресурсы и публичные эндпоинты (login, register, refresh,
+     * logout) проходят без проверки JWT. /api/auth/me в их число не входит.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicPaths.matches(request);
     }
 
     @Override
@@ -34,54 +73,56 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        // Пропускаем статические ресурсы и публичные API без проверки JWT
-        String path = request.getRequestURI();
-        if (path.startsWith("/assets/") || path.endsWith(".js") || path.endsWith(".css")
-                || path.endsWith(".ico") || path.endsWith(".png") || path.endsWith(".svg")
-                || path.endsWith(".jpg") || path.endsWith(".jpeg") || path.endsWith(".gif")
-                || path.endsWith(".woff") || path.endsWith(".woff2") || path.endsWith(".ttf")
-                || path.endsWith(".eot") || path.equals("/index.html") || path.equals("/logo.png")
-                || path.startsWith("/h2-console/")
-                || path.startsWith("/swagger-ui/") || path.startsWith("/v3/api-docs/")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
-        // Пропускаем только публичные эндпоинты авторизации (login, register, refresh,
-        // logout)
-        // /api/auth/me требует аутентификации, поэтому не пропускаем его
-        if (path.equals("/api/auth/login") || path.equals("/api/auth/register")
-                || path.equals("/api/auth/refresh") || path.equals("/api/auth/logout")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         final String authHeader = request.getHeader("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            skipped.increment();
             filterChain.doFilter(request, response);
             return;
         }
 
+        Counter outcome = invalid;
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtService.extractUsername(jwt);
+            // Токен разбирается и проверяется один раз за запрос
+            final Claims claims = jwtService.extractAllClaims(jwt);
+            final String userEmail = claims.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                if (jwtService.validateToken(jwt, userDetails.getUsername())) {
+                UserDetails userDetails = resolveUser(claims, userEmail);
+                if (jwtService.validateToken(claims, userDetails.getUsername())) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
                             userDetails.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    outcome = authenticated;
                 }
+            } else if (userEmail != null) {
+                // Запрос уже аутентифицирован раньше в цепочке
+                outcome = skipped;
             }
         } catch (Exception e) {
             // Если токен невалидный, просто пропускаем запрос дальше
             // Spring Security сам проверит, нужна ли аутентификация для этого эндпоинта
         }
+        outcome.increment();
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * В stateless-режиме пользователь восстанавливается из проверенных claims без
+     * обращения к БД. Если после выпуска токена роль пользователя менялась или он
+     * был удален, а также для токенов без роли (refresh), данные берутся из БД.
+     */
+    private UserDetails resolveUser(Claims claims, String userEmail) {
+        String role = claims.get("role", String.class);
+        String userId = claims.get("userId", String.class);
+        if (stateless && role != null && userId != null
+                && !userAuthCache.isInvalidatedSince(userEmail, claims.getIssuedAt())) {
+            return AuthenticatedUser.fromClaims(UUID.fromString(userId), userEmail, UserRole.valueOf(role));
+        }
+        return this.userDetailsService.loadUserByUsername(userEmail);
+    }
 }
@@ -0,0 +1,135 @@
+package com.coursework.calendar.config;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import com.coursework.calendar.service.ChangeStreamService;
+import com.coursework.calendar.service.JwtService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Метрики приложения, которых нет в автоконфигурации Spring Boot. Запросы
+ * HTTP (http.server.requests), вызовы репозиториев
+ * (spring.data.repository.invocations) и ожидание соединения в пуле Hikari
+ * (hikaricp.connections.acquire) Boot измеряет сам. JWT и BCrypt измеряются
+ * в JwtService, JwtAuthenticationFilter и BoundedPasswordEncoder.
+ */
+@Configuration
+public class MetricsConfig {
+    private static final String SERVICE_PACKAGE = ChangeStreamService.class.getPackageName();
+
+    /**
+     * Таймер calendar.service.invocations на публичные методы классов
+     * *Service из пакета service. Реестр берется лениво: постпроцессор
+     * создается раньше него.
+     */
+    @Bean
+    static ServiceMetricsPostProcessor serviceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ServiceMetricsPostProcessor(meterRegistry);
+    }
+
+    @Bean
+    MeterBinder dataSourceBulkheadMetrics(DataSource dataSource) {
+        return registry -> {
+            BulkheadDataSource bulkhead = DataSourceUnwrapper.unwrap(dataSource, BulkheadDataSource.class);
+            if (bulkhead == null) {
+                return;
+            }
+            Gauge.builder("datasource.bulkhead.available", bulkhead, BulkheadDataSource::getAvailablePermits)
+                    .description("Свободные разрешения на соединение с БД")
+                    .register(registry);
+            Gauge.builder("datasource.bulkhead.waiting", bulkhead, BulkheadDataSource::getWaitingThreads)
+                    .description("Потоки, ожидающие разрешения на соединение с БД")
+                    .register(registry);
+            bulkhead.setAcquireTimers(bulkheadAcquireTimer(registry, "acquired"),
+                    bulkheadAcquireTimer(registry, "rejected"));
+        };
+    }
+
+    private static Timer bulkheadAcquireTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("datasource.bulkhead.acquire")
+                .description("Ожидание разрешения на соединение с БД")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    @Bean
+    MeterBinder jwtClaimsCacheMetrics(JwtService jwtService) {
+        return jwtService::monitorClaimsCache;
+    }
+
+    @Bean
+    MeterBinder changeStreamMetrics(ChangeStreamService changeStreamService) {
+        return registry -> Gauge.builder("stream.subscriptions", changeStreamService,
+                ChangeStreamService::getSubscriptionCount)
+                .description("Открытые потоки /api/stream")
+                .register(registry);
+    }
+
+    private static final class ServiceMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+        private ServiceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.advisor = new DefaultPointcutAdvisor(new ServicePointcut(), new ServiceTimingInterceptor(meterRegistry));
+            // Время транзакции, открытой @Transactional, входит в замер
+            setBeforeExistingAdvisors(true);
+            setProxyTargetClass(true);
+        }
+    }
+
+    private static final class ServicePointcut extends StaticMethodMatcherPointcut {
+        private ServicePointcut() {
+            setClassFilter(type -> type.getPackageName().equals(SERVICE_PACKAGE)
+                    && (type.getSimpleName().endsWith("Service") || type.getSimpleName().endsWith("ServiceImpl")));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return Modifier.isPublic(method.getModifiers()) && method.getDeclaringClass() != Object.class;
+        }
+    }
+
+    private static final class ServiceTimingInterceptor implements MethodInterceptor {
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+
+        private ServiceTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            long start = System.nanoTime();
+            String exception = "none";
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                exception = e.getClass().getSimpleName();
+                throw e;
+            } finally {
+                Timer.builder("calendar.service.invocations")
+                        .description("Вызовы методов сервисов")
+                        .tag("service", ClassUtils.getUserClass(invocation.getThis()).getSimpleName())
+                        .tag("method", invocation.getMethod().getName())
+                        .tag("exception", exception)
+                        .register(meterRegistry.getObject())
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
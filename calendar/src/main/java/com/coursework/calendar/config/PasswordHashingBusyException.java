@@ -0,0 +1,24 @@
+package com.coursework.calendar.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Очередь хеширования паролей заполнена. Клиент получает 429 с Retry-After
+ * и может повторить вход или регистрацию позже.
+ */
+public class PasswordHashingBusyException extends ResponseStatusException {
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    public PasswordHashingBusyException() {
+        super(HttpStatus.TOO_MANY_REQUESTS, "Too many password hashing requests, retry later");
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        return headers;
+    }
+}
@@ -0,0 +1,101 @@
+package com.coursework.calendar.config;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Пути, доступные без аутентификации. Один список из security.public-paths
+ * используется и цепочкой Spring Security (permitAll), и
+ * JwtAuthenticationFilter (такие запросы он не обрабатывает).
+ *
+ * Шаблоны записываются как в requestMatchers:
+ * /x - точный путь, /x/** - путь и все под ним, /*.ext - файл с
+ * расширением в корне. Шаблоны разбираются один раз в множество путей,
+ * множество расширений и дерево префиксов по сегментам пути, поэтому
+ * проверка не зависит от числа шаблонов.
+ */
+@Component
+public class PublicPathClassifier implements RequestMatcher {
+    private final Set<String> exactPaths = new HashSet<>();
+    private final Set<String> rootExtensions = new HashSet<>();
+    private final Node prefixes = new Node();
+
+    public PublicPathClassifier(@Value("${security.public-paths}") Collection<String> patterns) {
+        for (String pattern : patterns) {
+            add(pattern.trim());
+        }
+    }
+
+    private void add(String pattern) {
+        if (!pattern.startsWith("/")) {
+            throw new IllegalArgumentException("Public path must start with '/': " + pattern);
+        }
+        if (pattern.startsWith("/*.")) {
+            rootExtensions.add(pattern.substring("/*.".length()));
+        } else if (pattern.endsWith("/**")) {
+            Node node = prefixes;
+            String directory = pattern.substring(0, pattern.length() - "/**".length());
+            for (String segment : directory.split("/")) {
+                if (!segment.isEmpty()) {
+                    node = node.children.computeIfAbsent(segment, key -> new Node());
+                }
+            }
+            node.terminal = true;
+        } else if (pattern.contains("*")) {
+            throw new IllegalArgumentException("Unsupported public path pattern: " + pattern);
+        } else {
+            exactPaths.add(pattern);
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return isPublic(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    public boolean isPublic(String path) {
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        int lastSlash = path.lastIndexOf('/');
+        int dot = path.lastIndexOf('.');
+        if (lastSlash == 0 && dot > 0 && rootExtensions.contains(path.substring(dot + 1))) {
+            return true;
+        }
+        return matchesPrefix(path);
+    }
+
+    private boolean matchesPrefix(String path) {
+        Node node = prefixes;
+        int start = 1;
+        while (!node.terminal) {
+            if (start >= path.length()) {
+                return false;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            node = node.children.get(path.substring(start, end));
+            if (node == null) {
+                return false;
+            }
+            start = end + 1;
+        }
+        return true;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private boolean terminal;
+    }
+}
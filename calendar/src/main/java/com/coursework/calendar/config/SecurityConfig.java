@@ -13,6 +13,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 
 @Configuration
 @EnableWebSecurity
@@ -31,8 +35,11 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${password-hashing.threads:2}") int threads,
+            @Value("${password-hashing.queue-capacity:16}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), threads, queueCapacity, meterRegistry);
     }
 
     @Bean
@@ -62,20 +69,19 @@ public class SecurityConfig {
     @Bean
     @Profile("!nopass")
     public SecurityFilterChain securityFilterChainDefault(HttpSecurity http,
-            org.springframework.web.cors.CorsConfigurationSource corsConfigurationSource) throws Exception {
+            org.springframework.web.cors.CorsConfigurationSource corsConfigurationSource,
+            PublicPathClassifier publicPaths) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/assets/**").permitAll()
-                        .requestMatchers("/*.js", "/*.css", "/*.ico", "/*.png", "/*.svg", "/*.jpg", "/*.jpeg", "/*.gif",
-                                "/*.woff", "/*.woff2", "/*.ttf", "/*.eot")
-                        .permitAll()
-                        .requestMatchers("/logo.png", "/vite.svg", "/index.html").permitAll()
+                        // Завершение асинхронного ответа (SSE, выгрузка) относится к уже проверенному запросу,
+                        // а контекст безопасности при stateless-сессии в повторную диспетчеризацию не переносится
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers(publicPaths).permitAll()
+                        // /api/auth/me проверяет токен в фильтре, но без него сам отвечает 401
                         .requestMatchers("/api/auth/**").permitAll()
-                        .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/api/**").authenticated()
                         .anyRequest().permitAll())
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()))
@@ -0,0 +1,58 @@
+package com.coursework.calendar.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Оборачивает DataSource в {@link SlowQueryLoggingDataSource} (под
+ * BulkheadDataSource, чтобы ожидание соединения не считалось временем
+ * запроса) и включает у репозиториев RepositoryMethodContext, по которому
+ * лог определяет вызвавший метод.
+ */
+@Configuration
+@ConditionalOnProperty(name = "slow-query-log.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLogConfig {
+
+    @Bean
+    static SlowQueryLoggingPostProcessor slowQueryLoggingPostProcessor(
+            @Value("${slow-query-log.threshold:200}") long thresholdMillis) {
+        return new SlowQueryLoggingPostProcessor(thresholdMillis);
+    }
+
+    private static final class SlowQueryLoggingPostProcessor implements BeanPostProcessor, Ordered {
+        private final long thresholdMillis;
+
+        private SlowQueryLoggingPostProcessor(long thresholdMillis) {
+            this.thresholdMillis = thresholdMillis;
+        }
+
+        @Override
+        public Object postProcessBeforeInitialization(Object bean, String beanName) {
+            if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactory) {
+                repositoryFactory.setExposeMetadata(true);
+            }
+            return bean;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryLoggingDataSource)
+                    && !(bean instanceof BulkheadDataSource)) {
+                return new SlowQueryLoggingDataSource(dataSource, thresholdMillis);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.coursework.calendar.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.repository.core.RepositoryMethodContext;
+import org.springframework.data.repository.core.RepositoryMethodContextHolder;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import com.coursework.calendar.CalendarApplication;
+
+/**
+ * Пишет в лог запросы, которые выполнялись дольше порога: длительность,
+ * число строк, вызвавший метод репозитория и SQL. Для SELECT к выполнению
+ * прибавляется время внутри ResultSet.next(), а работа вызывающего кода между
+ * строками не считается. Остальные запросы не логируются, поэтому
+ * SQL-логирование Hibernate можно не включать.
+ */
+public class SlowQueryLoggingDataSource extends DelegatingDataSource {
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLoggingDataSource.class);
+    private static final String APPLICATION_PACKAGE = CalendarApplication.class.getPackageName() + ".";
+    private static final String CONFIG_PACKAGE = SlowQueryLoggingDataSource.class.getPackageName() + ".";
+    private static final Set<String> UPDATE_METHODS = Set.of("executeUpdate", "executeLargeUpdate");
+    private static final Set<String> BATCH_METHODS = Set.of("executeBatch", "executeLargeBatch");
+
+    private final long thresholdNanos;
+
+    public SlowQueryLoggingDataSource(DataSource target, long thresholdMillis) {
+        super(target);
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection target) {
+        return proxy(ConnectionProxy.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                default:
+                    break;
+            }
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        });
+    }
+
+    private boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos && logger.isWarnEnabled();
+    }
+
+    private void log(String sql, long elapsedNanos, long rows, String caller) {
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        logger.atWarn()
+                .addKeyValue("durationMs", durationMs)
+                .addKeyValue("rows", rows)
+                .addKeyValue("caller", caller)
+                .addKeyValue("sql", sql)
+                .log("Slow query: {} ms, {} rows, {}: {}", durationMs, rows, caller, sql);
+    }
+
+    /**
+     * Метод репозитория, внутри которого выполняется запрос. Запросы вне
+     * репозиториев (flush при коммите, ленивая загрузка) относятся к
+     * ближайшему методу приложения в стеке.
+     */
+    private static String caller() {
+        try {
+            RepositoryMethodContext context = RepositoryMethodContextHolder.getContext();
+            return context.getMetadata().getRepositoryInterface().getSimpleName() + "."
+                    + context.getMethod().getName();
+        } catch (IllegalStateException e) {
+            // Запрос выполняется не из репозитория
+        }
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(CONFIG_PACKAGE)
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse("-"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SlowQueryLoggingDataSource.class.getClassLoader(), new Class<?>[] { type },
+                handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Засекает выполнение запросов одного Statement. SELECT логируется при
+     * закрытии ResultSet или самого Statement.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final String preparedSql;
+        private Query openQuery;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    finishOpenQuery();
+                    return SlowQueryLoggingDataSource.invoke(target, method, args);
+                default:
+                    break;
+            }
+            if (!name.startsWith("execute")) {
+                return SlowQueryLoggingDataSource.invoke(target, method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            finishOpenQuery();
+            long startedAt = System.nanoTime();
+            Object result = SlowQueryLoggingDataSource.invoke(target, method, args);
+            long elapsed = System.nanoTime() - startedAt;
+            if (result instanceof ResultSet resultSet) {
+                openQuery = new Query(sql);
+                openQuery.add(elapsed);
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, openQuery));
+            }
+            if (isSlow(elapsed)) {
+                log(sql, elapsed, rows(name, result), caller());
+            }
+            return result;
+        }
+
+        private long rows(String method, Object result) throws SQLException {
+            if (UPDATE_METHODS.contains(method)) {
+                return ((Number) result).longValue();
+            }
+            if (BATCH_METHODS.contains(method)) {
+                long total = 0;
+                if (result instanceof int[] counts) {
+                    for (int count : counts) {
+                        total += Math.max(count, 0);
+                    }
+                } else if (result instanceof long[] counts) {
+                    for (long count : counts) {
+                        total += Math.max(count, 0);
+                    }
+                }
+                return total;
+            }
+            // execute(): строки результата не читаются через этот прокси
+            return Boolean.TRUE.equals(result) ? -1 : target.getUpdateCount();
+        }
+
+        private void finishOpenQuery() {
+            if (openQuery != null) {
+                openQuery.finish();
+                openQuery = null;
+            }
+        }
+    }
+
+    private final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final Query query;
+
+        private ResultSetHandler(ResultSet target, Query query) {
+            this.target = target;
+            this.query = query;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "next":
+                    long startedAt = System.nanoTime();
+                    Object hasRow = SlowQueryLoggingDataSource.invoke(target, method, args);
+                    query.add(System.nanoTime() - startedAt);
+                    if (Boolean.TRUE.equals(hasRow)) {
+                        query.rows++;
+                    }
+                    return hasRow;
+                case "close":
+                    query.finish();
+                    return SlowQueryLoggingDataSource.invoke(target, method, args);
+                default:
+                    return SlowQueryLoggingDataSource.invoke(target, method, args);
+            }
+        }
+    }
+
+    private final class Query {
+        private final String sql;
+        private long elapsedNanos;
+        private long rows;
+        // Запоминается, когда запрос превысил порог: ResultSet может быть
+        // закрыт уже после выхода из метода репозитория
+        private String caller;
+        private boolean finished;
+
+        private Query(String sql) {
+            this.sql = sql;
+        }
+
+        void add(long nanos) {
+            elapsedNanos += nanos;
+            if (caller == null && isSlow(elapsedNanos)) {
+                caller = caller();
+            }
+        }
+
+        void finish() {
+            if (!finished) {
+                finished = true;
+                if (caller != null) {
+                    log(sql, elapsedNanos, rows, caller);
+                }
+            }
+        }
+    }
+}
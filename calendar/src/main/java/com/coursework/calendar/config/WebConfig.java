@@ -2,12 +2,16 @@ package com.coursework.calendar.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -27,19 +31,36 @@ public class WebConfig implements WebMvcConfigurer {
         return source;
     }
 
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserArgumentResolver());
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Обработка статических ресурсов из classpath:/static/
-        // Spring Boot по умолчанию ищет ресурсы в classpath:/static/, но мы явно указываем для ясности
+        // Обработка статических ресурсов из classpath:/static/ (сборка frontend)
         // Важно: не используем "/**", чтобы не перехватывать API запросы
+        // resourceChain(true) кэширует найденные ресурсы в памяти, EncodedResourceResolver
+        // отдает сжатые при сборке копии .br/.gz по Accept-Encoding
+
+        // Имена файлов в /assets/ содержат хеш содержимого (Vite), новая сборка - новые URL,
+        // поэтому браузер может не перепроверять их
         registry.addResourceHandler("/assets/**")
                 .addResourceLocations("classpath:/static/assets/")
-                .resourceChain(false);
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+        // Файлы из public/ копируются без хеша в имени
         registry.addResourceHandler("/*.js", "/*.css", "/*.ico", "/*.png", "/*.svg", "/*.jpg", "/*.jpeg", "/*.gif", "/*.woff", "/*.woff2", "/*.ttf", "/*.eot")
                 .addResourceLocations("classpath:/static/")
-                .resourceChain(false);
-        registry.addResourceHandler("/logo.png", "/vite.svg", "/index.html")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePublic())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+        // index.html ссылается на текущие хеши ресурсов, поэтому проверяется при каждой загрузке
+        registry.addResourceHandler("/index.html")
                 .addResourceLocations("classpath:/static/")
-                .resourceChain(false);
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
     }
 }
@@ -11,6 +11,8 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
@@ -37,6 +39,15 @@ public class ContactRequest {
     @Column(name = "status", nullable = false, length = 50)
     private ContactRequestStatus status;
 
+    // Упорядоченная пара участников, заполняется только для PENDING и ACCEPTED.
+    // Уникальный индекс по ней не дает создать второй активный запрос между
+    // теми же пользователями; NULL у остальных статусов в индексе не сравниваются
+    @Column(name = "pair_low_id", nullable = true, columnDefinition = "UUID")
+    private UUID pairLowId;
+
+    @Column(name = "pair_high_id", nullable = true, columnDefinition = "UUID")
+    private UUID pairHighId;
+
     // Конструктор без параметров для JPA
     public ContactRequest() {
     }
@@ -102,4 +113,32 @@ public class ContactRequest {
     public void setStatus(ContactRequestStatus status) {
         this.status = status;
     }
+
+    public UUID getPairLowId() {
+        return this.pairLowId;
+    }
+
+    public UUID getPairHighId() {
+        return this.pairHighId;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updatePair() {
+        if (status == ContactRequestStatus.PENDING || status == ContactRequestStatus.ACCEPTED) {
+            boolean fromIsLow = compareUnsigned(fromUserId, toUserId) <= 0;
+            this.pairLowId = fromIsLow ? fromUserId : toUserId;
+            this.pairHighId = fromIsLow ? toUserId : fromUserId;
+        } else {
+            this.pairLowId = null;
+            this.pairHighId = null;
+        }
+    }
+
+    // Порядок как у UUID в БД (побайтово без знака), чтобы совпадать с
+    // LEAST/GREATEST, которыми заполнены строки, созданные до миграции
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
 }
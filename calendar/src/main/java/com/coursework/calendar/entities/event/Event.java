@@ -3,6 +3,10 @@ package com.coursework.calendar.entities.event;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -14,7 +18,12 @@ import jakarta.persistence.Table;
 
 @Entity
 @Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Event.CACHE_REGION)
 public class Event {
+    // Регион кэша второго уровня (см. HibernateCacheConfig)
+    public static final String CACHE_REGION = "events";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "id", columnDefinition = "UUID")
@@ -42,6 +51,18 @@ public class Event {
     @Column(name = "status", nullable = false, length = 50)
     private EventStatus status;
 
+    // Правило повторения (подмножество RRULE), null - событие не повторяется
+    @Column(name = "recurrence_rule", length = 255)
+    private String recurrenceRule;
+
+    // Начала исключенных повторений в ISO-8601 через запятую
+    @Column(name = "recurrence_exceptions", columnDefinition = "TEXT")
+    private String recurrenceExceptions;
+
+    // Окончание последнего повторения, null - бесконечная серия
+    @Column(name = "series_end")
+    private LocalDateTime seriesEnd;
+
     // Конструктор без параметров для JPA
     public Event() {
     }
@@ -95,6 +116,18 @@ public class Event {
         return this.status;
     }
 
+    public String getRecurrenceRule() {
+        return this.recurrenceRule;
+    }
+
+    public String getRecurrenceExceptions() {
+        return this.recurrenceExceptions;
+    }
+
+    public LocalDateTime getSeriesEnd() {
+        return this.seriesEnd;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
@@ -126,4 +159,16 @@ public class Event {
     public void setStatus(EventStatus status) {
         this.status = status;
     }
+
+    public void setRecurrenceRule(String recurrenceRule) {
+        this.recurrenceRule = recurrenceRule;
+    }
+
+    public void setRecurrenceExceptions(String recurrenceExceptions) {
+        this.recurrenceExceptions = recurrenceExceptions;
+    }
+
+    public void setSeriesEnd(LocalDateTime seriesEnd) {
+        this.seriesEnd = seriesEnd;
+    }
 }
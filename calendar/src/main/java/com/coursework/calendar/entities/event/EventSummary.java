@@ -0,0 +1,20 @@
+package com.coursework.calendar.entities.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Событие без описания - для списков. Выбирается конструктором в JPQL
+ * (SELECT new ...), поэтому не попадает в контекст персистентности.
+ */
+public record EventSummary(UUID id, String title, LocalDateTime startTime, LocalDateTime endTime, UUID ownerId,
+        LocalDateTime createdAt, EventStatus status, String recurrenceRule, String recurrenceExceptions) {
+
+    /**
+     * Копия события со временем конкретного повторения.
+     */
+    public EventSummary withTimes(LocalDateTime startTime, LocalDateTime endTime) {
+        return new EventSummary(id, title, startTime, endTime, ownerId, createdAt, status, recurrenceRule,
+                recurrenceExceptions);
+    }
+}
@@ -0,0 +1,19 @@
+package com.coursework.calendar.entities.user;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Пользователь без хеша пароля. Выбирается конструктором в JPQL
+ * (SELECT new ...), поэтому не попадает в контекст персистентности.
+ */
+public record UserSummary(UUID id, String email, String username, LocalDateTime createdAt, UserRole role) {
+
+    /**
+     * Сводка уже загруженного пользователя, например из кэша второго уровня.
+     */
+    public static UserSummary of(User user) {
+        return new UserSummary(user.getId(), user.getEmail(), user.getUsername(), user.getCreatedAt(),
+                user.getRole());
+    }
+}
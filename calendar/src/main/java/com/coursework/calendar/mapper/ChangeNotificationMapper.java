@@ -0,0 +1,22 @@
+package com.coursework.calendar.mapper;
+
+import java.util.Locale;
+
+import com.coursework.calendar.api.stream.dto.ChangeNotificationResponse;
+import com.coursework.calendar.service.ChangeNotification;
+
+public class ChangeNotificationMapper {
+    /**
+     * Имя SSE-события: invitation, contact-request или resync.
+     */
+    public static String toEventName(ChangeNotification notification) {
+        return notification.type().name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+
+    public static ChangeNotificationResponse toResponse(ChangeNotification notification) {
+        return new ChangeNotificationResponse(
+                toEventName(notification),
+                notification.id(),
+                notification.status());
+    }
+}
@@ -1,10 +1,15 @@
 package com.coursework.calendar.mapper;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.coursework.calendar.api.event.dto.EventRequest;
 import com.coursework.calendar.api.event.dto.EventResponse;
+import com.coursework.calendar.api.event.dto.EventSummaryResponse;
 import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.event.EventSummary;
+import com.coursework.calendar.scheduling.EventOccurrence;
+import com.coursework.calendar.scheduling.Occurrences;
 
 public class EventMapper {
     public static Event toEntity(EventRequest eventRequest) {
@@ -15,12 +20,35 @@ public class EventMapper {
         event.setEndTime(eventRequest.endTime());
         event.setOwnerId(eventRequest.ownerId());
         event.setStatus(eventRequest.status());
+        event.setRecurrenceRule(eventRequest.recurrenceRule());
+        event.setRecurrenceExceptions(Occurrences.formatExceptions(eventRequest.recurrenceExceptions()));
         event.setCreatedAt(LocalDateTime.now());
         return event;
     }
 
     public static EventResponse toResponse(Event event) {
-        return new EventResponse(event.getId(), event.getTitle(), event.getDescription(), event.getStartTime(),
-                event.getEndTime(), event.getOwnerId(), event.getCreatedAt(), event.getStatus());
+        return toResponse(event, event.getStartTime(), event.getEndTime());
+    }
+
+    public static EventResponse toResponse(EventOccurrence occurrence) {
+        return toResponse(occurrence.event(), occurrence.startTime(), occurrence.endTime());
+    }
+
+    public static EventSummaryResponse toResponse(EventSummary event) {
+        return new EventSummaryResponse(event.id(), event.title(), event.startTime(), event.endTime(),
+                event.ownerId(), event.createdAt(), event.status(), event.recurrenceRule(),
+                sortedExceptions(event.recurrenceExceptions()));
+    }
+
+    private static EventResponse toResponse(Event event, LocalDateTime startTime, LocalDateTime endTime) {
+        return new EventResponse(event.getId(), event.getTitle(), event.getDescription(), startTime,
+                endTime, event.getOwnerId(), event.getCreatedAt(), event.getStatus(), event.getRecurrenceRule(),
+                sortedExceptions(event.getRecurrenceExceptions()));
+    }
+
+    private static List<LocalDateTime> sortedExceptions(String exceptions) {
+        return Occurrences.parseExceptions(exceptions).stream()
+                .sorted()
+                .toList();
     }
 }
@@ -0,0 +1,24 @@
+package com.coursework.calendar.mapper;
+
+import java.util.List;
+
+import com.coursework.calendar.api.freebusy.dto.FreeBusyResponse;
+import com.coursework.calendar.api.freebusy.dto.TimeIntervalResponse;
+import com.coursework.calendar.api.freebusy.dto.UserBusyResponse;
+import com.coursework.calendar.scheduling.FreeBusy;
+import com.coursework.calendar.scheduling.TimeInterval;
+
+public class FreeBusyMapper {
+    public static FreeBusyResponse toResponse(FreeBusy freeBusy) {
+        List<UserBusyResponse> users = freeBusy.busy().entrySet().stream()
+                .map(entry -> new UserBusyResponse(entry.getKey(), toResponse(entry.getValue())))
+                .toList();
+        return new FreeBusyResponse(freeBusy.from(), freeBusy.to(), users, toResponse(freeBusy.free()));
+    }
+
+    public static List<TimeIntervalResponse> toResponse(List<TimeInterval> intervals) {
+        return intervals.stream()
+                .map(interval -> new TimeIntervalResponse(interval.start(), interval.end()))
+                .toList();
+    }
+}
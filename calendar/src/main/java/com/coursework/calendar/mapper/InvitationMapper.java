@@ -2,9 +2,11 @@ package com.coursework.calendar.mapper;
 
 import java.time.LocalDateTime;
 
+import com.coursework.calendar.api.invitation.dto.InvitationBatchResultResponse;
 import com.coursework.calendar.api.invitation.dto.InvitationRequest;
 import com.coursework.calendar.api.invitation.dto.InvitationResponse;
 import com.coursework.calendar.entities.invitation.Invitation;
+import com.coursework.calendar.service.InvitationBatchResult;
 
 public class InvitationMapper {
     public static Invitation toEntity(InvitationRequest invitationRequest) {
@@ -20,4 +22,9 @@ public class InvitationMapper {
         return new InvitationResponse(invitation.getId(), invitation.getEventId(), invitation.getUserId(),
                 invitation.getCreatedAt(), invitation.getStatus());
     }
+
+    public static InvitationBatchResultResponse toResponse(InvitationBatchResult result) {
+        return new InvitationBatchResultResponse(result.userId(), result.outcome(),
+                result.invitation() != null ? toResponse(result.invitation()) : null);
+    }
 }
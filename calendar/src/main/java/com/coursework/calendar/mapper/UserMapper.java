@@ -2,8 +2,11 @@ package com.coursework.calendar.mapper;
 
 import com.coursework.calendar.entities.user.User;
 import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.search.PrefixIndex;
 import com.coursework.calendar.api.user.dto.UserCreateRequest;
 import com.coursework.calendar.api.user.dto.UserResponse;
+import com.coursework.calendar.api.user.dto.UserSuggestionResponse;
 import com.coursework.calendar.api.user.dto.UserUpdateRequest;
 
 import java.util.UUID;
@@ -31,4 +34,12 @@ public class UserMapper {
     public static UserResponse toResponse(User user) {
         return new UserResponse(user.getId(), user.getEmail(), user.getUsername(), user.getCreatedAt(), user.getRole());
     }
+
+    public static UserResponse toResponse(UserSummary user) {
+        return new UserResponse(user.id(), user.email(), user.username(), user.createdAt(), user.role());
+    }
+
+    public static UserSuggestionResponse toResponse(PrefixIndex.Suggestion suggestion) {
+        return new UserSuggestionResponse(suggestion.id(), suggestion.email(), suggestion.username());
+    }
 }
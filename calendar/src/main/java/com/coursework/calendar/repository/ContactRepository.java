@@ -1,9 +1,13 @@
 package com.coursework.calendar.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,16 +18,38 @@ import com.coursework.calendar.entities.contact.ContactRequestStatus;
 
 @Repository
 public interface ContactRepository extends JpaRepository<ContactRequest, UUID> {
-    List<ContactRequest> findByFromUserId(UUID fromUserId);
-
-    List<ContactRequest> findByToUserId(UUID toUserId);
+    // Запросы в обе стороны одним запросом: OR по двум индексам
+    // idx_contact_requests_from_status и idx_contact_requests_to_status
+    @Query("SELECT cr FROM ContactRequest cr WHERE " +
+            "cr.fromUserId = :userId OR cr.toUserId = :userId " +
+            "ORDER BY cr.createdAt DESC, cr.id")
+    List<ContactRequest> findByParticipant(@Param("userId") UUID userId);
 
+    // Slice вместо Page: следующая страница определяется по лишней строке,
+    // без отдельного COUNT по всем запросам пользователя
     @Query("SELECT cr FROM ContactRequest cr WHERE " +
-            "((cr.fromUserId = :userId1 AND cr.toUserId = :userId2) OR " +
-            "(cr.fromUserId = :userId2 AND cr.toUserId = :userId1)) AND " +
+            "(cr.fromUserId = :userId OR cr.toUserId = :userId) AND " +
             "cr.status IN :statuses")
-    Optional<ContactRequest> findExistingRequest(
-            @Param("userId1") UUID userId1,
-            @Param("userId2") UUID userId2,
-            @Param("statuses") List<ContactRequestStatus> statuses);
+    Slice<ContactRequest> findByParticipant(
+            @Param("userId") UUID userId,
+            @Param("statuses") Collection<ContactRequestStatus> statuses,
+            Pageable pageable);
+
+    // Собеседник по каждому принятому запросу, без загрузки самих запросов
+    @Query("SELECT CASE WHEN cr.fromUserId = :userId THEN cr.toUserId ELSE cr.fromUserId END " +
+            "FROM ContactRequest cr WHERE " +
+            "(cr.fromUserId = :userId OR cr.toUserId = :userId) AND " +
+            "cr.status = com.coursework.calendar.entities.contact.ContactRequestStatus.ACCEPTED")
+    List<UUID> findContactIds(@Param("userId") UUID userId);
+
+    @Query("SELECT cr FROM ContactRequest cr ORDER BY cr.createdAt, cr.id")
+    List<ContactRequest> findFirstPage(Limit limit);
+
+    @Query("SELECT cr FROM ContactRequest cr WHERE " +
+            "(cr.createdAt, cr.id) > (:createdAt, :id) " +
+            "ORDER BY cr.createdAt, cr.id")
+    List<ContactRequest> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
 }
@@ -1,14 +1,130 @@
 package com.coursework.calendar.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.event.EventSummary;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID> {
-    List<Event> findByOwnerId(UUID ownerId);
+    // Списки событий читают только колонки EventSummary: описание не загружается,
+    // результат не попадает в контекст персистентности и не проверяется на изменения
+    String SELECT_SUMMARY = "SELECT new com.coursework.calendar.entities.event.EventSummary(" +
+            "e.id, e.title, e.startTime, e.endTime, e.ownerId, e.createdAt, e.status, " +
+            "e.recurrenceRule, e.recurrenceExceptions) FROM Event e ";
+
+    @Query(SELECT_SUMMARY + "WHERE e.ownerId = :ownerId")
+    List<EventSummary> findByOwnerId(@Param("ownerId") UUID ownerId);
+
+    // Событие (или серия повторений) пересекает окно [from, to), если начинается до его конца
+    // и заканчивается после его начала; у бесконечной серии series_end равен NULL.
+    // Конечные серии выбираются по индексу idx_events_owner_series_start с нижней границей
+    // series_end > :from, бесконечные - по частичному индексу idx_events_owner_start_open_series.
+    // Порядок не задается: повторения сортируются после разворачивания
+    @Query(SELECT_SUMMARY + "WHERE " +
+            "e.ownerId = :ownerId AND " +
+            "e.seriesEnd > :from AND " +
+            "e.startTime < :to " +
+            "UNION ALL " +
+            SELECT_SUMMARY + "WHERE " +
+            "e.ownerId = :ownerId AND " +
+            "e.seriesEnd IS NULL AND " +
+            "e.startTime < :to")
+    List<EventSummary> findOverlapping(
+            @Param("ownerId") UUID ownerId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    @Query(SELECT_SUMMARY + "ORDER BY e.createdAt, e.id")
+    List<EventSummary> findFirstPage(Limit limit);
+
+    // Keyset-пагинация по (created_at, id): сравнение строк целиком задает нижнюю границу
+    // диапазона в индексе, поэтому стоимость страницы не зависит от глубины прокрутки
+    @Query(SELECT_SUMMARY + "WHERE " +
+            "(e.createdAt, e.id) > (:createdAt, :id) " +
+            "ORDER BY e.createdAt, e.id")
+    List<EventSummary> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    // Неотмененные события нескольких владельцев в окне, по тем же двум веткам, что и findOverlapping
+    @Query("SELECT e FROM Event e WHERE " +
+            "e.ownerId IN :ownerIds AND " +
+            "e.seriesEnd > :from AND " +
+            "e.startTime < :to AND " +
+            "e.status <> com.coursework.calendar.entities.event.EventStatus.CANCELLED " +
+            "UNION ALL " +
+            "SELECT e FROM Event e WHERE " +
+            "e.ownerId IN :ownerIds AND " +
+            "e.seriesEnd IS NULL AND " +
+            "e.startTime < :to AND " +
+            "e.status <> com.coursework.calendar.entities.event.EventStatus.CANCELLED")
+    List<Event> findBusy(
+            @Param("ownerIds") Collection<UUID> ownerIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // Неотмененные события, приглашение на которые пользователь принял.
+    // Приглашения выбираются по индексу idx_invitations_user_status_event
+    @Query("SELECT e FROM Event e JOIN Invitation i ON i.eventId = e.id WHERE " +
+            "i.userId = :userId AND " +
+            "i.status = com.coursework.calendar.entities.invitation.InvitationStatus.ACCEPTED AND " +
+            "e.startTime < :to AND " +
+            "(e.seriesEnd IS NULL OR e.seriesEnd > :from) AND " +
+            "e.status <> com.coursework.calendar.entities.event.EventStatus.CANCELLED")
+    List<Event> findAcceptedBusy(
+            @Param("userId") UUID userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // То же для нескольких пользователей сразу: событие возвращается вместе с принявшим приглашение
+    @Query("SELECT new com.coursework.calendar.repository.EventRepository$AcceptedEvent(i.userId, e) " +
+            "FROM Event e JOIN Invitation i ON i.eventId = e.id WHERE " +
+            "i.userId IN :userIds AND " +
+            "i.status = com.coursework.calendar.entities.invitation.InvitationStatus.ACCEPTED AND " +
+            "e.startTime < :to AND " +
+            "(e.seriesEnd IS NULL OR e.seriesEnd > :from) AND " +
+            "e.status <> com.coursework.calendar.entities.event.EventStatus.CANCELLED")
+    List<AcceptedEvent> findAcceptedBusyByUsers(
+            @Param("userIds") Collection<UUID> userIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // Приглашенные на событие: их приглашения удаляются вместе с ним (ON DELETE CASCADE)
+    @Query("SELECT i.userId FROM Invitation i WHERE i.eventId = :eventId")
+    List<UUID> findInviteeIds(@Param("eventId") UUID eventId);
+
+    // Приглашенные на события пользователя: при удалении пользователя каскадом
+    // удаляются его события и приглашения на них
+    @Query("SELECT DISTINCT i.userId FROM Invitation i, Event e " +
+            "WHERE i.eventId = e.id AND e.ownerId = :ownerId")
+    List<UUID> findInviteeIdsByOwnerId(@Param("ownerId") UUID ownerId);
+
+    // Однонаправленный курсор: строки читаются порциями по fetchSize, а не всей таблицей.
+    // Выгрузка всех событий не заполняет кэш второго уровня
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT e FROM Event e ORDER BY e.createdAt, e.id")
+    Stream<Event> streamAll();
+
+    record AcceptedEvent(UUID userId, Event event) {
+    }
 }
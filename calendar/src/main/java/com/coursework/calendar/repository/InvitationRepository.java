@@ -1,9 +1,14 @@
 package com.coursework.calendar.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.coursework.calendar.entities.invitation.Invitation;
@@ -13,4 +18,19 @@ public interface InvitationRepository extends JpaRepository<Invitation, UUID> {
     List<Invitation> findByUserId(UUID userId);
 
     boolean existsByEventIdAndUserId(UUID eventId, UUID userId);
+
+    // Уже приглашенные пользователи из списка, выборка по индексу idx_invitations_event_user
+    @Query("SELECT i.userId FROM Invitation i WHERE i.eventId = :eventId AND i.userId IN :userIds")
+    List<UUID> findInvitedUserIds(@Param("eventId") UUID eventId, @Param("userIds") Collection<UUID> userIds);
+
+    @Query("SELECT i FROM Invitation i ORDER BY i.createdAt, i.id")
+    List<Invitation> findFirstPage(Limit limit);
+
+    @Query("SELECT i FROM Invitation i WHERE " +
+            "(i.createdAt, i.id) > (:createdAt, :id) " +
+            "ORDER BY i.createdAt, i.id")
+    List<Invitation> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
 }
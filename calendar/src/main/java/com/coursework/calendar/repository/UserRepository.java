@@ -1,26 +1,99 @@
 package com.coursework.calendar.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserSummary;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
+    // Чтение для ответов API: только колонки UserSummary, хеш пароля не загружается
+    String SELECT_SUMMARY = "SELECT new com.coursework.calendar.entities.user.UserSummary(" +
+            "u.id, u.email, u.username, u.createdAt, u.role) FROM User u ";
+
+    // Вход и проверка токена ищут пользователя по email: при включенном кэше второго уровня
+    // результат берется из кэша запросов, пока таблица users не изменится
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
 
-    @Query("SELECT u FROM User u WHERE " +
-            "(LOWER(u.username) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-            "LOWER(u.email) LIKE LOWER(CONCAT('%', :query, '%'))) AND " +
-            "u.id != :excludeUserId")
-    Page<User> searchUsers(@Param("query") String query, @Param("excludeUserId") UUID excludeUserId, Pageable pageable);
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    @Query(SELECT_SUMMARY + "WHERE u.id IN :ids")
+    List<UserSummary> findSummariesByIds(@Param("ids") Collection<UUID> ids);
+
+    // Только PostgreSQL: каждая ветка - KNN-обход GiST-индекса pg_trgm по LOWER(username)
+    // или LOWER(email) в порядке расстояния <-> с LIMIT, оператор % отсекает строки с похожестью
+    // ниже pg_trgm.similarity_threshold. Ветки сливаются по наименьшему расстоянию.
+    // Возвращаются только id, сами пользователи читаются findSummariesByIds
+    @Query(value = "SELECT m.id FROM (" +
+            "(SELECT u.id, LOWER(u.username) <-> :query AS distance FROM users u " +
+            "WHERE LOWER(u.username) % :query AND " +
+            "(CAST(:excludeUserId AS uuid) IS NULL OR u.id <> CAST(:excludeUserId AS uuid)) " +
+            "ORDER BY distance LIMIT :offset + :limit) " +
+            "UNION ALL " +
+            "(SELECT u.id, LOWER(u.email) <-> :query AS distance FROM users u " +
+            "WHERE LOWER(u.email) % :query AND " +
+            "(CAST(:excludeUserId AS uuid) IS NULL OR u.id <> CAST(:excludeUserId AS uuid)) " +
+            "ORDER BY distance LIMIT :offset + :limit)" +
+            ") m JOIN users u ON u.id = m.id " +
+            "GROUP BY m.id, u.username " +
+            "ORDER BY MIN(m.distance), u.username, m.id " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<UUID> searchIdsBySimilarity(
+            @Param("query") String query,
+            @Param("excludeUserId") UUID excludeUserId,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+
+    // То же для коротких запросов: вместо % префикс LIKE, который GiST-индекс тоже обслуживает
+    @Query(value = "SELECT m.id FROM (" +
+            "(SELECT u.id, LOWER(u.username) <-> :query AS distance FROM users u " +
+            "WHERE LOWER(u.username) LIKE :pattern AND " +
+            "(CAST(:excludeUserId AS uuid) IS NULL OR u.id <> CAST(:excludeUserId AS uuid)) " +
+            "ORDER BY distance LIMIT :offset + :limit) " +
+            "UNION ALL " +
+            "(SELECT u.id, LOWER(u.email) <-> :query AS distance FROM users u " +
+            "WHERE LOWER(u.email) LIKE :pattern AND " +
+            "(CAST(:excludeUserId AS uuid) IS NULL OR u.id <> CAST(:excludeUserId AS uuid)) " +
+            "ORDER BY distance LIMIT :offset + :limit)" +
+            ") m JOIN users u ON u.id = m.id " +
+            "GROUP BY m.id, u.username " +
+            "ORDER BY MIN(m.distance), u.username, m.id " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<UUID> searchIdsByPrefix(
+            @Param("query") String query,
+            @Param("pattern") String pattern,
+            @Param("excludeUserId") UUID excludeUserId,
+            @Param("offset") int offset,
+            @Param("limit") int limit);
+
+    @Query(SELECT_SUMMARY + "ORDER BY u.createdAt, u.id")
+    List<UserSummary> findFirstPage(Limit limit);
+
+    @Query(SELECT_SUMMARY + "WHERE " +
+            "(u.createdAt, u.id) > (:createdAt, :id) " +
+            "ORDER BY u.createdAt, u.id")
+    List<UserSummary> findPageAfter(
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Limit limit);
 }
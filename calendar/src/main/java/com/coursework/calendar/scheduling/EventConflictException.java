@@ -0,0 +1,20 @@
+package com.coursework.calendar.scheduling;
+
+import java.util.List;
+
+/**
+ * Событие пересекается с другими событиями владельца или событиями,
+ * на которые он принял приглашение.
+ */
+public class EventConflictException extends IllegalStateException {
+    private final transient List<EventOccurrence> conflicts;
+
+    public EventConflictException(List<EventOccurrence> conflicts) {
+        super("Event conflicts with " + conflicts.size() + " existing event(s)");
+        this.conflicts = conflicts;
+    }
+
+    public List<EventOccurrence> getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,11 @@
+package com.coursework.calendar.scheduling;
+
+import java.time.LocalDateTime;
+
+import com.coursework.calendar.entities.event.Event;
+
+/**
+ * Конкретное повторение события. Для неповторяющегося события совпадает с ним самим.
+ */
+public record EventOccurrence(Event event, LocalDateTime startTime, LocalDateTime endTime) {
+}
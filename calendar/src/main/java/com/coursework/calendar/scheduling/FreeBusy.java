@@ -0,0 +1,14 @@
+package com.coursework.calendar.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Занятость пользователей в окне [from, to): объединенные интервалы каждого
+ * пользователя и промежутки, свободные у всех сразу.
+ */
+public record FreeBusy(LocalDateTime from, LocalDateTime to, Map<UUID, List<TimeInterval>> busy,
+        List<TimeInterval> free) {
+}
@@ -0,0 +1,95 @@
+package com.coursework.calendar.scheduling;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Операции над наборами интервалов.
+ */
+public final class Intervals {
+    private static final Comparator<TimeInterval> BY_START = Comparator.comparing(TimeInterval::start)
+            .thenComparing(TimeInterval::end);
+
+    private Intervals() {
+    }
+
+    /**
+     * Объединяет пересекающиеся и соприкасающиеся интервалы одним проходом
+     * по отсортированному списку. Пустые интервалы отбрасываются.
+     */
+    public static List<TimeInterval> merge(List<TimeInterval> intervals) {
+        List<TimeInterval> sorted = new ArrayList<>(intervals);
+        sorted.sort(BY_START);
+
+        List<TimeInterval> merged = new ArrayList<>();
+        LocalDateTime start = null;
+        LocalDateTime end = null;
+        for (TimeInterval interval : sorted) {
+            if (interval.isEmpty()) {
+                continue;
+            }
+            if (start == null) {
+                start = interval.start();
+                end = interval.end();
+            } else if (!interval.start().isAfter(end)) {
+                if (interval.end().isAfter(end)) {
+                    end = interval.end();
+                }
+            } else {
+                merged.add(new TimeInterval(start, end));
+                start = interval.start();
+                end = interval.end();
+            }
+        }
+        if (start != null) {
+            merged.add(new TimeInterval(start, end));
+        }
+        return merged;
+    }
+
+    /**
+     * Возвращает промежутки окна [from, to), не покрытые интервалами.
+     * Ожидает результат {@link #merge(List)}.
+     */
+    public static List<TimeInterval> complement(List<TimeInterval> merged, LocalDateTime from, LocalDateTime to) {
+        List<TimeInterval> gaps = new ArrayList<>();
+        LocalDateTime cursor = from;
+        for (TimeInterval interval : merged) {
+            if (!interval.end().isAfter(cursor)) {
+                continue;
+            }
+            if (!interval.start().isBefore(to)) {
+                break;
+            }
+            if (interval.start().isAfter(cursor)) {
+                gaps.add(new TimeInterval(cursor, interval.start()));
+            }
+            cursor = interval.end();
+        }
+        if (cursor.isBefore(to)) {
+            gaps.add(new TimeInterval(cursor, to));
+        }
+        return gaps;
+    }
+
+    /**
+     * Пересекает ли интервал хотя бы один из интервалов merged.
+     * Ожидает результат {@link #merge(List)}, поиск двоичный.
+     */
+    public static boolean overlapsAny(List<TimeInterval> merged, TimeInterval interval) {
+        int low = 0;
+        int high = merged.size() - 1;
+        // Первый интервал, заканчивающийся позже начала проверяемого
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (merged.get(mid).end().isAfter(interval.start())) {
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low < merged.size() && merged.get(low).start().isBefore(interval.end());
+    }
+}
@@ -0,0 +1,129 @@
+package com.coursework.calendar.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.event.EventSummary;
+
+/**
+ * Ленивое развертывание повторяющихся событий в окне [from, to).
+ * Итератор сразу переходит к первому повторению окна и останавливается на
+ * его правой границе, поэтому бесконечная серия никогда не разворачивается
+ * дальше видимого окна.
+ */
+public final class Occurrences {
+    private Occurrences() {
+    }
+
+    /**
+     * Повторения события, пересекающие окно [from, to). Для события без правила
+     * возвращается само событие, если оно попадает в окно.
+     */
+    public static Iterator<TimeInterval> between(LocalDateTime start, LocalDateTime end, RecurrenceRule rule,
+            Set<LocalDateTime> exceptions, LocalDateTime from, LocalDateTime to) {
+        if (rule == null) {
+            boolean overlaps = start.isBefore(to) && end.isAfter(from);
+            return overlaps ? List.of(new TimeInterval(start, end)).iterator() : Collections.emptyIterator();
+        }
+        return new OccurrenceIterator(start, Duration.between(start, end), rule, exceptions, from, to);
+    }
+
+    public static Iterator<TimeInterval> between(Event event, LocalDateTime from, LocalDateTime to) {
+        return between(event.getStartTime(), event.getEndTime(), RecurrenceRule.parse(event.getRecurrenceRule()),
+                parseExceptions(event.getRecurrenceExceptions()), from, to);
+    }
+
+    public static Iterator<TimeInterval> between(EventSummary event, LocalDateTime from, LocalDateTime to) {
+        return between(event.startTime(), event.endTime(), RecurrenceRule.parse(event.recurrenceRule()),
+                parseExceptions(event.recurrenceExceptions()), from, to);
+    }
+
+    /**
+     * Исключенные повторения хранятся строкой из дат начала в ISO-8601 через запятую.
+     */
+    public static Set<LocalDateTime> parseExceptions(String exceptions) {
+        if (exceptions == null || exceptions.isBlank()) {
+            return Set.of();
+        }
+        Set<LocalDateTime> result = new HashSet<>();
+        for (String value : exceptions.split(",")) {
+            if (!value.isBlank()) {
+                result.add(LocalDateTime.parse(value.trim()));
+            }
+        }
+        return result;
+    }
+
+    public static String formatExceptions(Collection<LocalDateTime> exceptions) {
+        if (exceptions == null || exceptions.isEmpty()) {
+            return null;
+        }
+        return exceptions.stream()
+                .sorted()
+                .distinct()
+                .map(LocalDateTime::toString)
+                .collect(Collectors.joining(","));
+    }
+
+    private static final class OccurrenceIterator implements Iterator<TimeInterval> {
+        private final LocalDateTime start;
+        private final Duration duration;
+        private final RecurrenceRule rule;
+        private final Set<LocalDateTime> exceptions;
+        private final LocalDateTime to;
+        private final long lastIndex;
+
+        private long index;
+        private TimeInterval next;
+
+        private OccurrenceIterator(LocalDateTime start, Duration duration, RecurrenceRule rule,
+                Set<LocalDateTime> exceptions, LocalDateTime from, LocalDateTime to) {
+            this.start = start;
+            this.duration = duration;
+            this.rule = rule;
+            this.exceptions = exceptions;
+            this.to = to;
+            this.lastIndex = rule.lastIndex(start);
+            this.index = rule.firstIndexEndingAfter(start, duration, from);
+            advance();
+        }
+
+        private void advance() {
+            next = null;
+            while (index <= lastIndex) {
+                LocalDateTime occurrenceStart = rule.occurrence(start, index++);
+                if (!occurrenceStart.isBefore(to)) {
+                    return;
+                }
+                if (!exceptions.contains(occurrenceStart)) {
+                    next = new TimeInterval(occurrenceStart, occurrenceStart.plus(duration));
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public TimeInterval next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            TimeInterval current = next;
+            advance();
+            return current;
+        }
+    }
+}
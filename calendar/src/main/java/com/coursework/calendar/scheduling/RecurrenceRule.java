@@ -0,0 +1,178 @@
+package com.coursework.calendar.scheduling;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Правило повторения события - подмножество RRULE из RFC 5545:
+ * FREQ=DAILY|WEEKLY|MONTHLY, INTERVAL, COUNT или UNTIL.
+ * Повторение с номером k начинается в start + k * interval единиц частоты.
+ */
+public record RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDateTime until) {
+    private static final DateTimeFormatter BASIC_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter BASIC_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // lastIndex бесконечной серии
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    // С большими значениями даты повторений выходят за пределы LocalDateTime
+    public static final int MAX_INTERVAL = 1000;
+    public static final int MAX_COUNT = 10_000;
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY;
+    }
+
+    public RecurrenceRule {
+        if (frequency == null) {
+            throw new IllegalArgumentException("Recurrence frequency is required");
+        }
+        if (interval < 1 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("Recurrence interval must be between 1 and " + MAX_INTERVAL);
+        }
+        if (count != null && (count < 1 || count > MAX_COUNT)) {
+            throw new IllegalArgumentException("Recurrence count must be between 1 and " + MAX_COUNT);
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("Recurrence rule cannot have both COUNT and UNTIL");
+        }
+    }
+
+    /**
+     * Разбирает правило вида "FREQ=WEEKLY;INTERVAL=2;COUNT=10", префикс "RRULE:" допускается.
+     * Пустая строка означает отсутствие повторения.
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            return null;
+        }
+        String value = rule.trim();
+        if (value.regionMatches(true, 0, "RRULE:", 0, 6)) {
+            value = value.substring(6);
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDateTime until = null;
+        for (String part : value.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Malformed recurrence rule part: " + part);
+            }
+            String name = part.substring(0, eq).trim().toUpperCase(Locale.ROOT);
+            String partValue = part.substring(eq + 1).trim();
+            try {
+                switch (name) {
+                    case "FREQ" -> frequency = Frequency.valueOf(partValue.toUpperCase(Locale.ROOT));
+                    case "INTERVAL" -> interval = Integer.parseInt(partValue);
+                    case "COUNT" -> count = Integer.parseInt(partValue);
+                    case "UNTIL" -> until = parseUntil(partValue);
+                    default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + name);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed recurrence rule part: " + part, e);
+            }
+        }
+        return new RecurrenceRule(frequency, interval, count, until);
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        // Время в UTC (суффикс Z) не переводится: события хранятся в локальном времени
+        String until = value.endsWith("Z") || value.endsWith("z") ? value.substring(0, value.length() - 1) : value;
+        if (until.contains("-")) {
+            return until.contains("T") ? LocalDateTime.parse(until) : LocalDate.parse(until).atTime(LocalTime.MAX);
+        }
+        return until.contains("T") ? LocalDateTime.parse(until, BASIC_DATE_TIME)
+                : LocalDate.parse(until, BASIC_DATE).atTime(LocalTime.MAX);
+    }
+
+    /**
+     * Начало повторения с номером index. Месячные повторения отсчитываются от
+     * исходной даты, поэтому 31-е число не "сползает" после короткого месяца.
+     */
+    public LocalDateTime occurrence(LocalDateTime start, long index) {
+        long steps = index * interval;
+        return switch (frequency) {
+            case DAILY -> start.plusDays(steps);
+            case WEEKLY -> start.plusWeeks(steps);
+            case MONTHLY -> start.plusMonths(steps);
+        };
+    }
+
+    /**
+     * Номер, с которого стоит начинать перебор, чтобы не пропустить повторения,
+     * заканчивающиеся позже момента from. Вычисляется арифметически, без
+     * перебора повторений до начала окна.
+     */
+    public long firstIndexEndingAfter(LocalDateTime start, Duration duration, LocalDateTime from) {
+        LocalDateTime threshold = from.minus(duration);
+        if (!threshold.isAfter(start)) {
+            return 0;
+        }
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, threshold);
+            case WEEKLY -> ChronoUnit.WEEKS.between(start, threshold);
+            case MONTHLY -> ChronoUnit.MONTHS.between(start, threshold);
+        };
+        // Шаг назад страхует от округления месяцев разной длины
+        long index = Math.max(0, units / interval - 1);
+        while (!occurrence(start, index).isAfter(threshold)) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Номер последнего повторения: UNBOUNDED для бесконечной серии и -1 для
+     * пустой, у которой UNTIL раньше начала.
+     */
+    public long lastIndex(LocalDateTime start) {
+        if (count != null) {
+            return count - 1L;
+        }
+        if (until == null) {
+            return UNBOUNDED;
+        }
+        if (start.isAfter(until)) {
+            return -1;
+        }
+        long index = firstIndexEndingAfter(start, Duration.ZERO, until);
+        return Math.max(0, index - 1);
+    }
+
+    /**
+     * Окончание последнего повторения или null для бесконечной серии. Пустая
+     * серия заканчивается в момент начала.
+     */
+    public LocalDateTime seriesEnd(LocalDateTime start, Duration duration) {
+        long lastIndex = lastIndex(start);
+        if (lastIndex == UNBOUNDED) {
+            return null;
+        }
+        return lastIndex < 0 ? start : occurrence(start, lastIndex).plus(duration);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(frequency);
+        if (interval != 1) {
+            rule.append(";INTERVAL=").append(interval);
+        }
+        if (count != null) {
+            rule.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            rule.append(";UNTIL=").append(BASIC_DATE_TIME.format(until));
+        }
+        return rule.toString();
+    }
+}
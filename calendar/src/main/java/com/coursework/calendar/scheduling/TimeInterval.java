@@ -0,0 +1,30 @@
+package com.coursework.calendar.scheduling;
+
+import java.time.LocalDateTime;
+
+/**
+ * Полуоткрытый интервал времени [start, end).
+ */
+public record TimeInterval(LocalDateTime start, LocalDateTime end) {
+    public TimeInterval {
+        if (start == null || end == null || end.isBefore(start)) {
+            throw new IllegalArgumentException("Interval end must not be before start");
+        }
+    }
+
+    public boolean isEmpty() {
+        return !start.isBefore(end);
+    }
+
+    /**
+     * Обрезает интервал по границам окна [from, to).
+     */
+    public TimeInterval clip(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime clippedStart = start.isBefore(from) ? from : start;
+        LocalDateTime clippedEnd = end.isAfter(to) ? to : end;
+        if (clippedEnd.isBefore(clippedStart)) {
+            clippedEnd = clippedStart;
+        }
+        return new TimeInterval(clippedStart, clippedEnd);
+    }
+}
@@ -0,0 +1,109 @@
+package com.coursework.calendar.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Префиксный индекс пользователей для автодополнения. Токены (username, его
+ * слова, email и часть email до @) хранятся в отсортированной карте вместе с
+ * id пользователя, поэтому все продолжения префикса лежат в ней подряд и
+ * запрос читает не больше нескольких записей на каждую подсказку.
+ *
+ * Чтение идет без блокировок, изменения индекса сериализованы.
+ */
+public class PrefixIndex {
+    // Разделитель токена и id в ключе: меньше любого символа токена
+    private static final char SEPARATOR = '\u0000';
+
+    private final ConcurrentSkipListMap<String, UUID> tokens = new ConcurrentSkipListMap<>();
+    private final Map<UUID, Suggestion> users = new ConcurrentHashMap<>();
+
+    public synchronized void put(UUID id, String username, String email) {
+        remove(id);
+        Suggestion suggestion = new Suggestion(id, username, email);
+        users.put(id, suggestion);
+        for (String token : tokens(suggestion)) {
+            tokens.put(token + SEPARATOR + id, id);
+        }
+    }
+
+    public synchronized void remove(UUID id) {
+        Suggestion suggestion = users.remove(id);
+        if (suggestion == null) {
+            return;
+        }
+        for (String token : tokens(suggestion)) {
+            tokens.remove(token + SEPARATOR + id);
+        }
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    /**
+     * Пользователи, у которых какой-либо токен начинается с prefix, в порядке
+     * токенов. Пользователь excludeId в выдачу не попадает.
+     */
+    public List<Suggestion> complete(String prefix, UUID excludeId, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<UUID> ids = new LinkedHashSet<>();
+        List<Suggestion> result = new ArrayList<>(limit);
+        for (Map.Entry<String, UUID> entry : tokens.tailMap(normalized).entrySet()) {
+            if (!entry.getKey().startsWith(normalized)) {
+                break;
+            }
+            if (entry.getValue().equals(excludeId) || !ids.add(entry.getValue())) {
+                continue;
+            }
+            Suggestion suggestion = users.get(entry.getValue());
+            if (suggestion == null) {
+                continue;
+            }
+            result.add(suggestion);
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> tokens(Suggestion suggestion) {
+        Set<String> result = new LinkedHashSet<>();
+        String username = normalize(suggestion.username());
+        String email = normalize(suggestion.email());
+        addToken(result, username);
+        for (String word : username.split("[^\\p{L}\\p{N}]+")) {
+            addToken(result, word);
+        }
+        addToken(result, email);
+        int at = email.indexOf('@');
+        if (at > 0) {
+            addToken(result, email.substring(0, at));
+        }
+        return result;
+    }
+
+    private static void addToken(Set<String> result, String token) {
+        if (!token.isEmpty()) {
+            result.add(token);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public record Suggestion(UUID id, String username, String email) {
+    }
+}
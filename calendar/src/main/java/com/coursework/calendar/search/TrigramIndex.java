@@ -0,0 +1,233 @@
+package com.coursework.calendar.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Триграммный индекс пользователей в памяти, аналог GiST-индекса pg_trgm.
+ * Для каждой триграммы хранятся пользователи, у которых она встречается
+ * в username или email, сгруппированные по числу триграмм в этом поле.
+ *
+ * Похожесть поля на запрос не больше отношения меньшего числа триграмм
+ * к большему, поэтому поиск обходит группы от самых близких к запросу
+ * по размеру и останавливается, как только оставшиеся группы не могут
+ * попасть в страницу, - так же, как KNN-обход индекса по расстоянию.
+ *
+ * Чтение идет без блокировок, изменения индекса сериализованы.
+ */
+public class TrigramIndex {
+    private static final int N = 3;
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * Минимальная похожесть для поиска по подстроке, как значение
+     * pg_trgm.similarity_threshold по умолчанию.
+     */
+    public static final double SIMILARITY_THRESHOLD = 0.3;
+
+    // триграмма -> число триграмм в поле -> пользователи
+    private final Map<String, Map<Integer, Set<UUID>>> postings = new ConcurrentHashMap<>();
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    public synchronized void put(UUID id, String username, String email) {
+        remove(id);
+        Entry entry = Entry.of(id, normalize(username), normalize(email));
+        entries.put(id, entry);
+        index(entry.usernameTrigrams(), id);
+        index(entry.emailTrigrams(), id);
+    }
+
+    public synchronized void remove(UUID id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        unindex(entry.usernameTrigrams(), id);
+        unindex(entry.emailTrigrams(), id);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void index(Set<String> trigrams, UUID id) {
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, key -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(trigrams.size(), key -> ConcurrentHashMap.newKeySet())
+                    .add(id);
+        }
+    }
+
+    private void unindex(Set<String> trigrams, UUID id) {
+        for (String trigram : trigrams) {
+            Map<Integer, Set<UUID>> bySize = postings.get(trigram);
+            if (bySize == null) {
+                continue;
+            }
+            Set<UUID> ids = bySize.get(trigrams.size());
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    bySize.remove(trigrams.size());
+                }
+            }
+            if (bySize.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Ищет пользователей, у которых username или email похож на запрос не
+     * меньше чем на SIMILARITY_THRESHOLD (для запросов короче трех символов -
+     * начинается с него), и возвращает страницу, упорядоченную по убыванию
+     * похожести. Общее число совпадений не считается: для него пришлось бы
+     * проверить всех кандидатов.
+     */
+    public Result search(String query, UUID excludeId, int offset, int limit) {
+        String normalized = normalize(query);
+        Set<String> queryTrigrams = trigrams(normalized);
+        if (queryTrigrams.isEmpty()) {
+            return new Result(List.of(), false);
+        }
+        boolean prefix = normalized.length() < N;
+        // Лучшее по похожести поле пользователя делит с запросом хотя бы одну
+        // триграмму, поэтому он найдется в ее списке в группе размера этого поля
+        List<Map<Integer, Set<UUID>>> lists = new ArrayList<>();
+        for (String trigram : queryTrigrams) {
+            Map<Integer, Set<UUID>> bySize = postings.get(trigram);
+            if (bySize != null) {
+                lists.add(bySize);
+            }
+        }
+
+        int querySize = queryTrigrams.size();
+        Set<Integer> sizeSet = new HashSet<>();
+        lists.forEach(bySize -> sizeSet.addAll(bySize.keySet()));
+        List<Integer> sizes = new ArrayList<>();
+        for (int size : sizeSet) {
+            if (prefix || bound(querySize, size) >= SIMILARITY_THRESHOLD) {
+                sizes.add(size);
+            }
+        }
+        sizes.sort(Comparator.comparingDouble((Integer size) -> bound(querySize, size)).reversed());
+
+        // В куче остаются лучшие offset + limit + 1 совпадений, худшее - в голове;
+        // лишнее совпадение показывает, что есть следующая страница
+        PriorityQueue<Match> top = new PriorityQueue<>(Match.BEST_FIRST.reversed());
+        int keep = offset + limit + 1;
+        Set<UUID> seen = new HashSet<>();
+        for (int size : sizes) {
+            if (top.size() == keep && bound(querySize, size) < top.peek().score()) {
+                break;
+            }
+            for (Map<Integer, Set<UUID>> bySize : lists) {
+                for (UUID id : bySize.getOrDefault(size, Set.of())) {
+                    if (!seen.add(id) || id.equals(excludeId)) {
+                        continue;
+                    }
+                    Entry entry = entries.get(id);
+                    if (entry == null || (prefix && !entry.startsWith(normalized))) {
+                        continue;
+                    }
+                    double score = entry.similarity(queryTrigrams);
+                    if (!prefix && score < SIMILARITY_THRESHOLD) {
+                        continue;
+                    }
+                    top.add(new Match(id, entry.username(), score));
+                    if (top.size() > keep) {
+                        top.poll();
+                    }
+                }
+            }
+        }
+
+        List<Match> sorted = new ArrayList<>(top);
+        sorted.sort(Match.BEST_FIRST);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = offset; i < Math.min(sorted.size(), offset + limit); i++) {
+            ids.add(sorted.get(i).id());
+        }
+        return new Result(ids, sorted.size() > offset + limit);
+    }
+
+    /**
+     * Наибольшая похожесть строк, у которых a и b триграмм.
+     */
+    private static double bound(int a, int b) {
+        return (double) Math.min(a, b) / Math.max(a, b);
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Триграммы строки, как в pg_trgm: строка делится на слова из букв и цифр,
+     * каждое слово дополняется двумя пробелами в начале и одним в конце.
+     */
+    static Set<String> trigrams(String value) {
+        Set<String> result = new HashSet<>();
+        for (String word : WORD_SEPARATOR.split(value)) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + N <= padded.length(); i++) {
+                result.add(padded.substring(i, i + N));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Доля общих триграмм от их объединения, как similarity() в pg_trgm.
+     */
+    static double similarity(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        int common = 0;
+        for (String trigram : a) {
+            if (b.contains(trigram)) {
+                common++;
+            }
+        }
+        return (double) common / (a.size() + b.size() - common);
+    }
+
+    public record Result(List<UUID> ids, boolean hasNext) {
+    }
+
+    private record Entry(UUID id, String username, String email,
+            Set<String> usernameTrigrams, Set<String> emailTrigrams) {
+        static Entry of(UUID id, String username, String email) {
+            return new Entry(id, username, email, trigrams(username), trigrams(email));
+        }
+
+        boolean startsWith(String query) {
+            return username.startsWith(query) || email.startsWith(query);
+        }
+
+        double similarity(Set<String> queryTrigrams) {
+            return Math.max(
+                    TrigramIndex.similarity(queryTrigrams, usernameTrigrams),
+                    TrigramIndex.similarity(queryTrigrams, emailTrigrams));
+        }
+    }
+
+    private record Match(UUID id, String username, double score) {
+        static final Comparator<Match> BEST_FIRST = Comparator.comparingDouble(Match::score).reversed()
+                .thenComparing(Match::username)
+                .thenComparing(Match::id);
+    }
+}
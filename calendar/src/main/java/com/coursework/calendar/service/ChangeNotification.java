@@ -0,0 +1,37 @@
+package com.coursework.calendar.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+import com.coursework.calendar.entities.contact.ContactRequest;
+import com.coursework.calendar.entities.invitation.Invitation;
+
+/**
+ * Приглашение или запрос в контакты создан или изменен. Публикуется
+ * сервисами и после коммита рассылается подписчикам recipients через
+ * {@link ChangeStreamService}.
+ *
+ * RESYNC не связан с сущностью: подписчик пропустил уведомления из-за
+ * переполнения очереди и должен перечитать данные целиком.
+ */
+public record ChangeNotification(Type type, UUID id, String status, Set<UUID> recipients) {
+
+    public enum Type {
+        INVITATION, CONTACT_REQUEST, RESYNC
+    }
+
+    public static ChangeNotification invitation(Invitation invitation, Set<UUID> recipients) {
+        return new ChangeNotification(Type.INVITATION, invitation.getId(),
+                invitation.getStatus() != null ? invitation.getStatus().name() : null, recipients);
+    }
+
+    public static ChangeNotification contactRequest(ContactRequest contactRequest) {
+        return new ChangeNotification(Type.CONTACT_REQUEST, contactRequest.getId(),
+                contactRequest.getStatus() != null ? contactRequest.getStatus().name() : null,
+                Set.of(contactRequest.getFromUserId(), contactRequest.getToUserId()));
+    }
+
+    public static ChangeNotification resync() {
+        return new ChangeNotification(Type.RESYNC, null, null, Set.of());
+    }
+}
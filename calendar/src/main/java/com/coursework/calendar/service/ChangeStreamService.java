@@ -0,0 +1,206 @@
+package com.coursework.calendar.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Рассылка {@link ChangeNotification} открытым потокам пользователей.
+ *
+ * Публикация не блокируется: уведомление кладется в ограниченную очередь
+ * каждой подписки, а отправкой занимается виртуальный поток, который
+ * запускается, только пока в очереди что-то есть. Если клиент не успевает
+ * читать и очередь переполнена, накопленные уведомления отбрасываются и
+ * вместо них отправляется одно RESYNC.
+ */
+@Service
+public class ChangeStreamService {
+    private static final Logger logger = LoggerFactory.getLogger(ChangeStreamService.class);
+
+    private final int queueCapacity;
+    private final int maxSubscriptionsPerUser;
+    private final Map<UUID, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("change-stream-heartbeat").daemon().factory());
+
+    public ChangeStreamService(
+            @Value("${stream.queue-capacity:64}") int queueCapacity,
+            @Value("${stream.max-subscriptions-per-user:5}") int maxSubscriptionsPerUser,
+            @Value("${stream.heartbeat-interval:20000}") long heartbeatInterval) {
+        this.queueCapacity = queueCapacity;
+        this.maxSubscriptionsPerUser = maxSubscriptionsPerUser;
+        heartbeatExecutor.scheduleAtFixedRate(this::heartbeat, heartbeatInterval, heartbeatInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Подписывает sink на уведомления пользователя. Если у пользователя уже
+     * maxSubscriptionsPerUser потоков, самый старый закрывается.
+     */
+    public Subscription subscribe(UUID userId, ChangeSink sink) {
+        Subscription subscription = new Subscription(userId, sink);
+        List<Subscription> evicted = new ArrayList<>();
+        // Добавление внутри compute: иначе close() последней подписки может удалить
+        // список между его получением и добавлением, и новая подписка потеряется
+        subscriptions.compute(userId, (id, userSubscriptions) -> {
+            List<Subscription> updated = userSubscriptions != null ? userSubscriptions : new CopyOnWriteArrayList<>();
+            updated.add(subscription);
+            for (int i = 0; i < updated.size() - maxSubscriptionsPerUser; i++) {
+                evicted.add(updated.get(i));
+            }
+            return updated;
+        });
+        // close() сам меняет запись пользователя, поэтому вызывается вне compute
+        evicted.forEach(Subscription::close);
+        return subscription;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeNotification notification) {
+        for (UUID userId : notification.recipients()) {
+            List<Subscription> userSubscriptions = subscriptions.get(userId);
+            if (userSubscriptions != null) {
+                for (Subscription subscription : userSubscriptions) {
+                    subscription.offer(notification);
+                }
+            }
+        }
+    }
+
+    public int getSubscriptionCount() {
+        return subscriptions.values().stream().mapToInt(List::size).sum();
+    }
+
+    private void heartbeat() {
+        for (List<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.requestHeartbeat();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+        for (List<Subscription> userSubscriptions : subscriptions.values()) {
+            for (Subscription subscription : userSubscriptions) {
+                subscription.close();
+            }
+        }
+        deliveryExecutor.shutdown();
+    }
+
+    /**
+     * Получатель уведомлений одной подписки. Методы вызываются из одного
+     * потока доставки за раз, исключение закрывает подписку.
+     */
+    public interface ChangeSink {
+        void send(ChangeNotification notification) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    public final class Subscription {
+        private final UUID userId;
+        private final ChangeSink sink;
+        private final BlockingQueue<ChangeNotification> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean resync = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscription(UUID userId, ChangeSink sink) {
+            this.userId = userId;
+            this.sink = sink;
+        }
+
+        void offer(ChangeNotification notification) {
+            if (!queue.offer(notification)) {
+                resync.set(true);
+            }
+            scheduleDelivery();
+        }
+
+        void requestHeartbeat() {
+            heartbeatDue.set(true);
+            scheduleDelivery();
+        }
+
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            subscriptions.computeIfPresent(userId, (id, userSubscriptions) -> {
+                userSubscriptions.remove(this);
+                return userSubscriptions.isEmpty() ? null : userSubscriptions;
+            });
+            queue.clear();
+            sink.close();
+        }
+
+        private void scheduleDelivery() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                deliveryExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                do {
+                    deliverPending();
+                    draining.set(false);
+                } while (hasPending() && draining.compareAndSet(false, true));
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Change stream of user {} closed: {}", userId, e.getMessage());
+                close();
+            }
+        }
+
+        private void deliverPending() throws IOException {
+            while (!closed.get()) {
+                if (resync.getAndSet(false)) {
+                    // Отброшенные уведомления относятся к уже закоммиченным изменениям,
+                    // клиент увидит их, перечитав данные после RESYNC
+                    queue.clear();
+                    sink.send(ChangeNotification.resync());
+                    continue;
+                }
+                ChangeNotification next = queue.poll();
+                if (next != null) {
+                    sink.send(next);
+                    continue;
+                }
+                if (heartbeatDue.getAndSet(false)) {
+                    sink.heartbeat();
+                }
+                return;
+            }
+        }
+
+        private boolean hasPending() {
+            return !closed.get() && (!queue.isEmpty() || resync.get() || heartbeatDue.get());
+        }
+    }
+}
@@ -1,33 +1,75 @@
 package com.coursework.calendar.service;
 
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import com.coursework.calendar.entities.contact.ContactRequest;
 import com.coursework.calendar.entities.contact.ContactRequestStatus;
+import com.coursework.calendar.pagination.Cursor;
+import com.coursework.calendar.pagination.CursorPage;
 import com.coursework.calendar.repository.ContactRepository;
 
 @Service
 public class ContactService {
+    // Уникальный индекс по паре участников активного запроса (см. 008-contact-requests-active-pair.xml)
+    static final String ACTIVE_PAIR_CONSTRAINT = "uq_contact_requests_active_pair";
+
     private final ContactRepository contactRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ContactService(ContactRepository contactRepository) {
+    public ContactService(ContactRepository contactRepository, ApplicationEventPublisher eventPublisher) {
         this.contactRepository = contactRepository;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Первые CursorPage.MAX_SIZE запросов в порядке создания, остальные
+     * доступны только постранично через getContactRequestsPage.
+     */
     public List<ContactRequest> getAllContactRequests() {
-        return contactRepository.findAll();
+        return contactRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE));
+    }
+
+    public CursorPage<ContactRequest> getContactRequestsPage(String cursor, int size) {
+        int limit = CursorPage.limit(size);
+        List<ContactRequest> contactRequests;
+        if (cursor == null || cursor.isEmpty()) {
+            contactRequests = contactRepository.findFirstPage(Limit.of(limit + 1));
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            contactRequests = contactRepository.findPageAfter(position.createdAt(), position.id(), Limit.of(limit + 1));
+        }
+        return CursorPage.of(contactRequests, limit, contactRequest -> new Cursor(contactRequest.getCreatedAt(), contactRequest.getId()));
     }
 
     public List<ContactRequest> getContactRequestsByUserId(UUID userId) {
-        List<ContactRequest> fromUser = contactRepository.findByFromUserId(userId);
-        List<ContactRequest> toUser = contactRepository.findByToUserId(userId);
-        List<ContactRequest> result = new java.util.ArrayList<>(fromUser);
-        result.addAll(toUser);
-        return result;
+        return contactRepository.findByParticipant(userId);
+    }
+
+    /**
+     * Входящие и исходящие запросы пользователя с фильтром по статусу.
+     * Пустой список статусов означает любой статус.
+     */
+    public Slice<ContactRequest> getContactRequestsByUserId(UUID userId, Collection<ContactRequestStatus> statuses,
+            Pageable pageable) {
+        Collection<ContactRequestStatus> filter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(ContactRequestStatus.class)
+                : statuses;
+        return contactRepository.findByParticipant(userId, filter, pageable);
+    }
+
+    public List<UUID> getContactIds(UUID userId) {
+        return contactRepository.findContactIds(userId);
     }
 
     public ContactRequest getContactRequestById(UUID id) {
@@ -36,28 +78,40 @@ public class ContactService {
     }
 
     public ContactRequest createContactRequest(ContactRequest contactRequest) {
-        // Проверяем, существует ли уже запрос между этими пользователями
-        // Проверяем PENDING и ACCEPTED статусы
-        if (contactRepository.findExistingRequest(
-                contactRequest.getFromUserId(),
-                contactRequest.getToUserId(),
-                Arrays.asList(ContactRequestStatus.PENDING, ContactRequestStatus.ACCEPTED))
-                .isPresent()) {
-            throw new IllegalStateException("Contact request already exists between these users");
-        }
-
         // Проверяем, что пользователь не отправляет запрос самому себе
         if (contactRequest.getFromUserId().equals(contactRequest.getToUserId())) {
             throw new IllegalArgumentException("Cannot send contact request to yourself");
         }
 
-        return contactRepository.save(contactRequest);
+        // Повторный PENDING или ACCEPTED запрос между теми же пользователями
+        // отклоняет уникальный индекс, отдельная проверка перед вставкой не нужна
+        ContactRequest savedContactRequest = saveOrConflict(contactRequest);
+        eventPublisher.publishEvent(ChangeNotification.contactRequest(savedContactRequest));
+        return savedContactRequest;
     }
 
     public ContactRequest updateContactRequest(UUID id, ContactRequest contactRequest) {
         ContactRequest existingContactRequest = getContactRequestById(id);
         existingContactRequest.setStatus(contactRequest.getStatus());
-        return contactRepository.save(existingContactRequest);
+        ContactRequest savedContactRequest = saveOrConflict(existingContactRequest);
+        eventPublisher.publishEvent(ChangeNotification.contactRequest(savedContactRequest));
+        return savedContactRequest;
+    }
+
+    private ContactRequest saveOrConflict(ContactRequest contactRequest) {
+        try {
+            return contactRepository.saveAndFlush(contactRequest);
+        } catch (DataIntegrityViolationException e) {
+            if (isActivePairViolation(e)) {
+                throw new IllegalStateException("Contact request already exists between these users", e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isActivePairViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(ACTIVE_PAIR_CONSTRAINT);
     }
 
     public void deleteContactRequest(UUID id) {
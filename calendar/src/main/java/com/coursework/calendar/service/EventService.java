@@ -1,23 +1,86 @@
 package com.coursework.calendar.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.event.EventStatus;
+import com.coursework.calendar.entities.event.EventSummary;
+import com.coursework.calendar.pagination.Cursor;
+import com.coursework.calendar.pagination.CursorPage;
 import com.coursework.calendar.repository.EventRepository;
+import com.coursework.calendar.scheduling.EventConflictException;
+import com.coursework.calendar.scheduling.EventOccurrence;
+import com.coursework.calendar.scheduling.Intervals;
+import com.coursework.calendar.scheduling.Occurrences;
+import com.coursework.calendar.scheduling.RecurrenceRule;
+import com.coursework.calendar.scheduling.TimeInterval;
+
+import jakarta.persistence.EntityManager;
 
 @Service
 public class EventService {
+    // Горизонт проверки конфликтов для бесконечных серий
+    static final Duration CONFLICT_HORIZON = Duration.ofDays(365);
+    // Наибольшая ширина окна getEventsInRange: ограничивает число повторений в одном ответе
+    static final Duration MAX_RANGE = Duration.ofDays(366);
+
     private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final UserDataVersions userDataVersions;
 
-    public EventService(EventRepository eventRepository) {
+    public EventService(EventRepository eventRepository, EntityManager entityManager,
+            UserDataVersions userDataVersions) {
         this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.userDataVersions = userDataVersions;
+    }
+
+    /**
+     * Первые CursorPage.MAX_SIZE событий в порядке создания, остальные
+     * доступны только постранично через getEventsPage.
+     */
+    public List<EventSummary> getAllEvents() {
+        return eventRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE));
+    }
+
+    public CursorPage<EventSummary> getEventsPage(String cursor, int size) {
+        int limit = CursorPage.limit(size);
+        List<EventSummary> events;
+        if (cursor == null || cursor.isEmpty()) {
+            events = eventRepository.findFirstPage(Limit.of(limit + 1));
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            events = eventRepository.findPageAfter(position.createdAt(), position.id(), Limit.of(limit + 1));
+        }
+        return CursorPage.of(events, limit, event -> new Cursor(event.createdAt(), event.id()));
     }
 
-    public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+    /**
+     * Передает все события в consumer по одному, не собирая их в список.
+     * Обработанные сущности отсоединяются от контекста, поэтому расход памяти
+     * не зависит от количества событий.
+     */
+    @Transactional(readOnly = true)
+    public void exportEvents(Consumer<Event> consumer) {
+        try (Stream<Event> events = eventRepository.streamAll()) {
+            events.forEach(event -> {
+                consumer.accept(event);
+                entityManager.detach(event);
+            });
+        }
     }
 
     public Event getEventById(UUID id) {
@@ -25,25 +88,161 @@ public class EventService {
                 .orElseThrow(() -> new RuntimeException("Event not found"));
     }
 
-    public List<Event> getEventsByUserId(UUID userId) {
+    public List<EventSummary> getEventsByUserId(UUID userId) {
         return eventRepository.findByOwnerId(userId);
     }
 
+    /**
+     * Повторения событий владельца в окне [from, to), упорядоченные по началу.
+     * Серии разворачиваются только в пределах окна, каждое повторение - копия
+     * события со своим временем. Окно не может быть шире MAX_RANGE.
+     */
+    public List<EventSummary> getEventsInRange(UUID ownerId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Range start must be before range end");
+        }
+        if (Duration.between(from, to).compareTo(MAX_RANGE) > 0) {
+            throw new IllegalArgumentException("Range must not exceed " + MAX_RANGE.toDays() + " days");
+        }
+        List<EventSummary> occurrences = new ArrayList<>();
+        for (EventSummary event : eventRepository.findOverlapping(ownerId, from, to)) {
+            Occurrences.between(event, from, to).forEachRemaining(
+                    interval -> occurrences.add(event.withTimes(interval.start(), interval.end())));
+        }
+        occurrences.sort(Comparator.comparing(EventSummary::startTime));
+        return occurrences;
+    }
+
     public Event createEvent(Event event) {
-        return eventRepository.save(event);
+        return createEvent(event, false);
+    }
+
+    /**
+     * Создает событие. При checkConflicts событие не сохраняется, если оно
+     * пересекается с другими событиями владельца.
+     */
+    public Event createEvent(Event event, boolean checkConflicts) {
+        applyRecurrence(event);
+        if (checkConflicts) {
+            ensureNoConflicts(event, null);
+        }
+        Event savedEvent = eventRepository.save(event);
+        userDataVersions.bump(UserDataVersions.Kind.EVENTS, savedEvent.getOwnerId());
+        return savedEvent;
     }
 
     public Event updateEvent(UUID id, Event event) {
+        return updateEvent(id, event, false);
+    }
+
+    public Event updateEvent(UUID id, Event event, boolean checkConflicts) {
         Event existingEvent = getEventById(id);
+        if (checkConflicts) {
+            // Проверяются новые значения, сохраненное событие до проверки не меняется
+            event.setOwnerId(existingEvent.getOwnerId());
+            applyRecurrence(event);
+            ensureNoConflicts(event, id);
+        }
         existingEvent.setTitle(event.getTitle());
         existingEvent.setDescription(event.getDescription());
         existingEvent.setStartTime(event.getStartTime());
         existingEvent.setEndTime(event.getEndTime());
         existingEvent.setStatus(event.getStatus());
-        return eventRepository.save(existingEvent);
+        existingEvent.setRecurrenceRule(event.getRecurrenceRule());
+        existingEvent.setRecurrenceExceptions(event.getRecurrenceExceptions());
+        applyRecurrence(existingEvent);
+        Event savedEvent = eventRepository.save(existingEvent);
+        userDataVersions.bump(UserDataVersions.Kind.EVENTS, savedEvent.getOwnerId());
+        return savedEvent;
+    }
+
+    /**
+     * Повторения событий, с которыми пересекается событие: собственные события
+     * владельца и события, на которые он принял приглашение. Отмененные события
+     * не учитываются, бесконечная серия проверяется на CONFLICT_HORIZON вперед.
+     *
+     * @param excludeEventId событие, которое не считается конфликтом (само
+     *                       обновляемое событие), может быть null
+     */
+    @Transactional(readOnly = true)
+    public List<EventOccurrence> findConflicts(Event event, UUID excludeEventId) {
+        applyRecurrence(event);
+        if (event.getStatus() == EventStatus.CANCELLED) {
+            return List.of();
+        }
+
+        LocalDateTime from = event.getStartTime();
+        LocalDateTime to = event.getRecurrenceRule() == null ? event.getEndTime() : from.plus(CONFLICT_HORIZON);
+        if (event.getSeriesEnd() != null && event.getSeriesEnd().isBefore(to)) {
+            to = event.getSeriesEnd();
+        }
+        if (!from.isBefore(to)) {
+            return List.of();
+        }
+
+        List<TimeInterval> candidate = new ArrayList<>();
+        Occurrences.between(event, from, to).forEachRemaining(candidate::add);
+        List<TimeInterval> busy = Intervals.merge(candidate);
+        if (busy.isEmpty()) {
+            return List.of();
+        }
+
+        // Владелец может быть приглашен и на собственное событие, поэтому дубли убираются по id
+        Map<UUID, Event> others = new LinkedHashMap<>();
+        for (Event other : eventRepository.findBusy(List.of(event.getOwnerId()), from, to)) {
+            others.putIfAbsent(other.getId(), other);
+        }
+        for (Event other : eventRepository.findAcceptedBusy(event.getOwnerId(), from, to)) {
+            others.putIfAbsent(other.getId(), other);
+        }
+        if (excludeEventId != null) {
+            others.remove(excludeEventId);
+        }
+
+        List<EventOccurrence> conflicts = new ArrayList<>();
+        LocalDateTime windowEnd = to;
+        for (Event other : others.values()) {
+            Occurrences.between(other, from, windowEnd).forEachRemaining(interval -> {
+                if (Intervals.overlapsAny(busy, interval)) {
+                    conflicts.add(new EventOccurrence(other, interval.start(), interval.end()));
+                }
+            });
+        }
+        conflicts.sort(Comparator.comparing(EventOccurrence::startTime));
+        return conflicts;
+    }
+
+    private void ensureNoConflicts(Event event, UUID excludeEventId) {
+        List<EventOccurrence> conflicts = findConflicts(event, excludeEventId);
+        if (!conflicts.isEmpty()) {
+            throw new EventConflictException(conflicts);
+        }
+    }
+
+    /**
+     * Проверяет правило повторения, приводит его к каноническому виду и
+     * пересчитывает окончание серии, по которому события ищутся в окне.
+     */
+    private void applyRecurrence(Event event) {
+        RecurrenceRule rule = RecurrenceRule.parse(event.getRecurrenceRule());
+        if (rule == null) {
+            event.setRecurrenceRule(null);
+            event.setRecurrenceExceptions(null);
+            event.setSeriesEnd(event.getEndTime());
+            return;
+        }
+        event.setRecurrenceRule(rule.toString());
+        event.setSeriesEnd(rule.seriesEnd(event.getStartTime(),
+                Duration.between(event.getStartTime(), event.getEndTime())));
     }
 
     public void deleteEvent(UUID id) {
+        eventRepository.findById(id).ifPresent(event -> {
+            userDataVersions.bump(UserDataVersions.Kind.EVENTS, event.getOwnerId());
+            for (UUID inviteeId : eventRepository.findInviteeIds(id)) {
+                userDataVersions.bump(UserDataVersions.Kind.INVITATIONS, inviteeId);
+            }
+        });
         eventRepository.deleteById(id);
     }
 }
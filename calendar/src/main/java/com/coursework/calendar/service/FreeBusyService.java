@@ -0,0 +1,82 @@
+package com.coursework.calendar.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.repository.EventRepository;
+import com.coursework.calendar.scheduling.FreeBusy;
+import com.coursework.calendar.scheduling.Intervals;
+import com.coursework.calendar.scheduling.Occurrences;
+import com.coursework.calendar.scheduling.TimeInterval;
+
+@Service
+public class FreeBusyService {
+    public static final int MAX_USERS = 100;
+
+    private final EventRepository eventRepository;
+
+    public FreeBusyService(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Считает занятость пользователей в окне [from, to) по двум запросам к БД:
+     * собственные события и события, приглашение на которые пользователь принял
+     * (как и при проверке конфликтов). Отмененные события занятостью не
+     * считаются, серии разворачиваются в пределах окна. Окно, как и в
+     * EventService.getEventsInRange, не может быть шире MAX_RANGE.
+     */
+    @Transactional(readOnly = true)
+    public FreeBusy getFreeBusy(Collection<UUID> userIds, LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Window start must be before window end");
+        }
+        if (Duration.between(from, to).compareTo(EventService.MAX_RANGE) > 0) {
+            throw new IllegalArgumentException("Window must not exceed " + EventService.MAX_RANGE.toDays() + " days");
+        }
+        Set<UUID> ids = new LinkedHashSet<>(userIds);
+        if (ids.isEmpty() || ids.size() > MAX_USERS) {
+            throw new IllegalArgumentException("Number of users must be between 1 and " + MAX_USERS);
+        }
+
+        Map<UUID, List<TimeInterval>> intervalsByUser = new LinkedHashMap<>();
+        for (UUID id : ids) {
+            intervalsByUser.put(id, new ArrayList<>());
+        }
+        for (Event event : eventRepository.findBusy(ids, from, to)) {
+            addOccurrences(intervalsByUser.get(event.getOwnerId()), event, from, to);
+        }
+        for (EventRepository.AcceptedEvent accepted : eventRepository.findAcceptedBusyByUsers(ids, from, to)) {
+            addOccurrences(intervalsByUser.get(accepted.userId()), accepted.event(), from, to);
+        }
+
+        Map<UUID, List<TimeInterval>> busy = new LinkedHashMap<>();
+        List<TimeInterval> allBusy = new ArrayList<>();
+        intervalsByUser.forEach((id, intervals) -> {
+            List<TimeInterval> merged = Intervals.merge(intervals);
+            busy.put(id, merged);
+            allBusy.addAll(merged);
+        });
+
+        List<TimeInterval> free = Intervals.complement(Intervals.merge(allBusy), from, to);
+        return new FreeBusy(from, to, busy, free);
+    }
+
+    private static void addOccurrences(List<TimeInterval> intervals, Event event, LocalDateTime from,
+            LocalDateTime to) {
+        Occurrences.between(event, from, to)
+                .forEachRemaining(interval -> intervals.add(interval.clip(from, to)));
+    }
+}
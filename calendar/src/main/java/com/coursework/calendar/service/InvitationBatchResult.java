@@ -0,0 +1,17 @@
+package com.coursework.calendar.service;
+
+import java.util.UUID;
+
+import com.coursework.calendar.entities.invitation.Invitation;
+
+/**
+ * Результат пакетного приглашения для одного пользователя.
+ * invitation заполнен только для созданных приглашений.
+ */
+public record InvitationBatchResult(UUID userId, Outcome outcome, Invitation invitation) {
+    public enum Outcome {
+        CREATED,
+        ALREADY_INVITED,
+        USER_NOT_FOUND;
+    }
+}
@@ -1,23 +1,69 @@
 package com.coursework.calendar.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.coursework.calendar.entities.invitation.Invitation;
+import com.coursework.calendar.entities.invitation.InvitationStatus;
+import com.coursework.calendar.pagination.Cursor;
+import com.coursework.calendar.pagination.CursorPage;
+import com.coursework.calendar.repository.EventRepository;
 import com.coursework.calendar.repository.InvitationRepository;
+import com.coursework.calendar.repository.UserRepository;
 
 @Service
 public class InvitationService {
+    public static final int MAX_BATCH_SIZE = 500;
+    static final String EVENT_USER_CONSTRAINT = "uq_invitations_event_user";
+
     private final InvitationRepository invitationRepository;
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final UserDataVersions userDataVersions;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public InvitationService(InvitationRepository invitationRepository) {
+    public InvitationService(InvitationRepository invitationRepository, EventRepository eventRepository,
+            UserRepository userRepository, UserDataVersions userDataVersions,
+            ApplicationEventPublisher eventPublisher) {
         this.invitationRepository = invitationRepository;
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.userDataVersions = userDataVersions;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * Первые CursorPage.MAX_SIZE приглашений в порядке создания, остальные
+     * доступны только постранично через getInvitationsPage.
+     */
     public List<Invitation> getAllInvitations() {
-        return invitationRepository.findAll();
+        return invitationRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE));
+    }
+
+    public CursorPage<Invitation> getInvitationsPage(String cursor, int size) {
+        int limit = CursorPage.limit(size);
+        List<Invitation> invitations;
+        if (cursor == null || cursor.isEmpty()) {
+            invitations = invitationRepository.findFirstPage(Limit.of(limit + 1));
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            invitations = invitationRepository.findPageAfter(position.createdAt(), position.id(), Limit.of(limit + 1));
+        }
+        return CursorPage.of(invitations, limit, invitation -> new Cursor(invitation.getCreatedAt(), invitation.getId()));
     }
 
     public Invitation getInvitationById(UUID id) {
@@ -30,20 +76,95 @@ public class InvitationService {
     }
 
     public Invitation createInvitation(Invitation invitation) {
-        return invitationRepository.save(invitation);
+        Invitation savedInvitation = saveOrConflict(() -> invitationRepository.saveAndFlush(invitation));
+        userDataVersions.bump(UserDataVersions.Kind.INVITATIONS, savedInvitation.getUserId());
+        eventPublisher.publishEvent(ChangeNotification.invitation(savedInvitation, Set.of(savedInvitation.getUserId())));
+        return savedInvitation;
+    }
+
+    /**
+     * Приглашает список пользователей на событие в одной транзакции.
+     * Существующие приглашения и несуществующие пользователи отсеиваются двумя
+     * запросами по всему списку, новые строки вставляются пакетно.
+     * Результаты возвращаются в порядке списка, повторы в нем не учитываются.
+     * Если параллельный запрос успел пригласить кого-то из списка, уникальный
+     * индекс отклоняет вставку и весь пакет откатывается с IllegalStateException.
+     */
+    @Transactional
+    public List<InvitationBatchResult> createInvitations(UUID eventId, Collection<UUID> userIds,
+            InvitationStatus status) {
+        Set<UUID> requested = new LinkedHashSet<>(userIds);
+        if (requested.isEmpty() || requested.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Number of users must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (!eventRepository.existsById(eventId)) {
+            throw new IllegalArgumentException("Event not found");
+        }
+
+        Set<UUID> existingUsers = new HashSet<>(userRepository.findExistingIds(requested));
+        Set<UUID> invitedUsers = new HashSet<>(invitationRepository.findInvitedUserIds(eventId, requested));
+        LocalDateTime now = LocalDateTime.now();
+
+        List<InvitationBatchResult> results = new ArrayList<>(requested.size());
+        List<Invitation> created = new ArrayList<>();
+        for (UUID userId : requested) {
+            if (!existingUsers.contains(userId)) {
+                results.add(new InvitationBatchResult(userId, InvitationBatchResult.Outcome.USER_NOT_FOUND, null));
+            } else if (invitedUsers.contains(userId)) {
+                results.add(new InvitationBatchResult(userId, InvitationBatchResult.Outcome.ALREADY_INVITED, null));
+            } else {
+                // id не задается: новая сущность сохраняется через persist без предварительного SELECT
+                Invitation invitation = new Invitation();
+                invitation.setEventId(eventId);
+                invitation.setUserId(userId);
+                invitation.setStatus(status);
+                invitation.setCreatedAt(now);
+                created.add(invitation);
+                results.add(new InvitationBatchResult(userId, InvitationBatchResult.Outcome.CREATED, invitation));
+            }
+        }
+        saveOrConflict(() -> invitationRepository.saveAllAndFlush(created));
+        for (Invitation invitation : created) {
+            userDataVersions.bump(UserDataVersions.Kind.INVITATIONS, invitation.getUserId());
+            eventPublisher.publishEvent(ChangeNotification.invitation(invitation, Set.of(invitation.getUserId())));
+        }
+        return results;
+    }
+
+    private static <T> T saveOrConflict(Supplier<T> save) {
+        try {
+            return save.get();
+        } catch (DataIntegrityViolationException e) {
+            if (isEventUserViolation(e)) {
+                throw new IllegalStateException("User is already invited to this event", e);
+            }
+            throw e;
+        }
+    }
+
+    private static boolean isEventUserViolation(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(EVENT_USER_CONSTRAINT);
     }
 
     public Invitation updateInvitation(UUID id, Invitation invitation) {
         Invitation existingInvitation = getInvitationById(id);
         existingInvitation.setStatus(invitation.getStatus());
-        return invitationRepository.save(existingInvitation);
+        Invitation savedInvitation = invitationRepository.save(existingInvitation);
+        userDataVersions.bump(UserDataVersions.Kind.INVITATIONS, savedInvitation.getUserId());
+        // Об ответе на приглашение узнает и владелец события
+        Set<UUID> recipients = new HashSet<>();
+        recipients.add(savedInvitation.getUserId());
+        eventRepository.findById(savedInvitation.getEventId())
+                .ifPresent(event -> recipients.add(event.getOwnerId()));
+        eventPublisher.publishEvent(ChangeNotification.invitation(savedInvitation, recipients));
+        return savedInvitation;
     }
 
     public void deleteInvitation(UUID id) {
-        if (!invitationRepository.existsById(id)) {
-            throw new RuntimeException("Invitation not found");
-        }
-
+        // Приглашение читается до удаления: нужен пользователь, чей список изменится
+        invitationRepository.findById(id).ifPresent(
+                invitation -> userDataVersions.bump(UserDataVersions.Kind.INVITATIONS, invitation.getUserId()));
         invitationRepository.deleteById(id);
     }
 }
@@ -1,9 +1,14 @@
 package com.coursework.calendar.service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
@@ -12,24 +17,77 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.coursework.calendar.entities.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret:your-256-bit-secret-key-for-jwt-token-generation-minimum-32-characters}")
-    private String secret;
+    private static final String DEFAULT_SECRET = "your-256-bit-secret-key-for-jwt-token-generation-minimum-32-characters";
+
+    private final long accessTokenExpiration;
+    private final long refreshTokenExpiration;
+
+    // Ключ и парсер создаются один раз: оба потокобезопасны и не зависят от токена
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // Недавно проверенные токены (ключ - SHA-256 токена), запись живет не дольше exp токена
+    private final Cache<String, Claims> verifiedClaims;
+
+    // Время разбора и проверки подписи, только для промахов кэша
+    private final Timer validVerifications;
+    private final Timer invalidVerifications;
+
+    public JwtService(
+            @Value("${jwt.secret:" + DEFAULT_SECRET + "}") String secret,
+            @Value("${jwt.access-token-expiration:900000}") long accessTokenExpiration, // 15 минут по умолчанию
+            @Value("${jwt.refresh-token-expiration:604800000}") long refreshTokenExpiration, // 7 дней по умолчанию
+            @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheMaxSize,
+            @Value("${jwt.claims-cache.ttl:300000}") long claimsCacheTtl,
+            MeterRegistry meterRegistry) {
+        this.accessTokenExpiration = accessTokenExpiration;
+        this.refreshTokenExpiration = refreshTokenExpiration;
+        this.signingKey = buildSigningKey(secret);
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new ClaimsExpiry(TimeUnit.MILLISECONDS.toNanos(claimsCacheTtl)))
+                .recordStats()
+                .build();
+        this.validVerifications = verificationTimer(meterRegistry, "valid");
+        this.invalidVerifications = verificationTimer(meterRegistry, "invalid");
+    }
 
-    @Value("${jwt.access-token-expiration:900000}") // 15 минут по умолчанию
-    private long accessTokenExpiration;
+    /**
+     * Публикует попадания и промахи кэша: cache.gets{cache="jwtClaims", result="hit|miss"}.
+     * Вызывается один раз из MeterBinder в MetricsConfig, а не из конструктора:
+     * повторная регистрация тех же метрик в реестре молча игнорируется.
+     */
+    public void monitorClaimsCache(MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwtClaims");
+    }
 
-    @Value("${jwt.refresh-token-expiration:604800000}") // 7 дней по умолчанию
-    private long refreshTokenExpiration;
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verification")
+                .description("Разбор JWT и проверка подписи")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 
-    private SecretKey getSigningKey() {
+    private static SecretKey buildSigningKey(String secret) {
         byte[] keyBytes = secret.getBytes();
         // JWT требует минимум 256 бит (32 байта) для HMAC-SHA
         if (keyBytes.length < 32) {
@@ -39,8 +97,7 @@ public class JwtService {
                     secureKey[i] = keyBytes[i % keyBytes.length];
                 }
             } else {
-                String defaultSecret = "your-256-bit-secret-key-for-jwt-token-generation-minimum-32-characters";
-                secureKey = defaultSecret.getBytes();
+                secureKey = DEFAULT_SECRET.getBytes();
             }
             return Keys.hmacShaKeyFor(secureKey);
         }
@@ -65,16 +122,40 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * Возвращает проверенные claims токена. Подпись проверяется только при первом
+     * обращении, повторные вызовы с тем же токеном обслуживаются из кэша.
+     */
+    public Claims extractAllClaims(String token) {
+        String key = hash(token);
+        Claims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long start = System.nanoTime();
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (RuntimeException e) {
+            invalidVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        validVerifications.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        verifiedClaims.put(key, claims);
+        return claims;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private Boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     public String generateAccessToken(User user) {
@@ -98,21 +179,55 @@ public class JwtService {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        return validateToken(extractAllClaims(token), username);
+    }
+
+    public Boolean validateToken(Claims claims, String username) {
+        return (claims.getSubject().equals(username) && !isTokenExpired(claims));
     }
 
     public Boolean validateRefreshToken(String token) {
         try {
             Claims claims = extractAllClaims(token);
-            return "refresh".equals(claims.get("type")) && !isTokenExpired(token);
+            return "refresh".equals(claims.get("type")) && !isTokenExpired(claims);
         } catch (Exception e) {
             return false;
         }
     }
+
+    /**
+     * Время жизни записи: не больше ttl кэша и не позже exp самого токена.
+     */
+    private static final class ClaimsExpiry implements Expiry<String, Claims> {
+        private final long maxTtlNanos;
+
+        private ClaimsExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long untilExpiration = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(maxTtlNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
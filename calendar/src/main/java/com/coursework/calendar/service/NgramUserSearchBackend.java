@@ -0,0 +1,52 @@
+package com.coursework.calendar.service;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.repository.UserRepository;
+import com.coursework.calendar.search.TrigramIndex;
+
+/**
+ * Поиск по триграммному индексу в памяти. Используется с H2, где нет pg_trgm.
+ * Индекс заполняет UserIndexLoader при старте, дальше он обновляется
+ * по UserChangedEvent.
+ */
+@Service
+@ConditionalOnProperty(name = "user-search.backend", havingValue = "ngram", matchIfMissing = true)
+public class NgramUserSearchBackend implements UserSearchBackend, UserIndex {
+    private final UserRepository userRepository;
+    private final TrigramIndex index = new TrigramIndex();
+
+    public NgramUserSearchBackend(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public void put(UserSummary user) {
+        index.put(user.id(), user.username(), user.email());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.deleted()) {
+            index.remove(event.id());
+        } else {
+            index.put(event.id(), event.username(), event.email());
+        }
+    }
+
+    @Override
+    public Slice<UserSummary> search(String query, UUID excludeUserId, Pageable pageable) {
+        TrigramIndex.Result result = index.search(query, excludeUserId,
+                (int) pageable.getOffset(), pageable.getPageSize());
+        // Порядок страницы задает индекс
+        return new SliceImpl<>(UserSearchBackend.findInOrder(userRepository, result.ids()), pageable, result.hasNext());
+    }
+}
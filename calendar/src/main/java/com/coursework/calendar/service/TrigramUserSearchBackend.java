@@ -0,0 +1,51 @@
+package com.coursework.calendar.service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.repository.UserRepository;
+
+/**
+ * Поиск по GiST-индексам pg_trgm (changeset 010-users-trigram-gist-indexes).
+ * Индекс и отбирает строки (% или LIKE с префиксом), и отдает их в порядке
+ * расстояния <->, поэтому запрос читает не больше offset + limit строк
+ * на колонку и не считает общее число совпадений.
+ */
+@Service
+@ConditionalOnProperty(name = "user-search.backend", havingValue = "trigram")
+public class TrigramUserSearchBackend implements UserSearchBackend {
+    private final UserRepository userRepository;
+
+    public TrigramUserSearchBackend(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Slice<UserSummary> search(String query, UUID excludeUserId, Pageable pageable) {
+        String normalized = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        int offset = (int) pageable.getOffset();
+        int limit = pageable.getPageSize();
+        // Лишняя строка показывает, что есть следующая страница
+        List<UUID> ids;
+        if (normalized.length() < MIN_SUBSTRING_LENGTH) {
+            String escaped = normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            ids = userRepository.searchIdsByPrefix(normalized, escaped + "%", excludeUserId, offset, limit + 1);
+        } else {
+            ids = userRepository.searchIdsBySimilarity(normalized, excludeUserId, offset, limit + 1);
+        }
+        boolean hasNext = ids.size() > limit;
+        List<UUID> page = hasNext ? ids.subList(0, limit) : ids;
+        return new SliceImpl<>(UserSearchBackend.findInOrder(userRepository, page), pageable, hasNext);
+    }
+}
@@ -0,0 +1,83 @@
+package com.coursework.calendar.service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Кэш данных пользователя для аутентификации запросов.
+ * Хранит загруженные из БД UserDetails (если кэш включен) и отметки о том,
+ * что роль пользователя изменилась или он был удален: токены, выпущенные до
+ * такой отметки, нельзя принимать на веру и нужно сверять с БД.
+ */
+@Service
+public class UserAuthCache {
+    private final Cache<String, UserDetails> users;
+    private final Cache<String, Long> invalidations;
+
+    public UserAuthCache(
+            @Value("${jwt.user-cache.enabled:false}") boolean enabled,
+            @Value("${jwt.user-cache.ttl:30000}") long ttl,
+            @Value("${jwt.user-cache.max-size:10000}") long maxSize,
+            @Value("${jwt.access-token-expiration:900000}") long accessTokenExpiration) {
+        this.users = enabled
+                ? Caffeine.newBuilder()
+                        .maximumSize(maxSize)
+                        .expireAfterWrite(Duration.ofMillis(ttl))
+                        .build()
+                : null;
+        // Отметка нужна, пока живы выпущенные до нее access-токены
+        this.invalidations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(accessTokenExpiration))
+                .build();
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        if (users == null) {
+            return loader.apply(email);
+        }
+        return users.get(email, loader);
+    }
+
+    /**
+     * Сбрасывает закэшированного пользователя. Внутри транзакции сброс
+     * повторяется после коммита, чтобы параллельный запрос не вернул в кэш
+     * старые данные.
+     */
+    public void evict(String email) {
+        invalidate(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(email);
+                }
+            });
+        }
+    }
+
+    private void invalidate(String email) {
+        if (users != null) {
+            users.invalidate(email);
+        }
+        invalidations.put(email, System.currentTimeMillis());
+    }
+
+    public boolean isInvalidatedSince(String email, Date issuedAt) {
+        Long invalidatedAt = invalidations.getIfPresent(email);
+        if (invalidatedAt == null) {
+            return false;
+        }
+        // iat хранится с точностью до секунды, поэтому сравнение нестрогое
+        return issuedAt == null || issuedAt.getTime() <= invalidatedAt;
+    }
+}
@@ -0,0 +1,41 @@
+package com.coursework.calendar.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.search.PrefixIndex;
+
+/**
+ * Автодополнение пользователей по префиксу username или email. Отвечает из
+ * индекса в памяти без запросов к БД: индекс заполняет UserIndexLoader при
+ * старте, дальше он обновляется по UserChangedEvent.
+ */
+@Service
+public class UserAutocompleteService implements UserIndex {
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final PrefixIndex index = new PrefixIndex();
+
+    @Override
+    public void put(UserSummary user) {
+        index.put(user.id(), user.username(), user.email());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.deleted()) {
+            index.remove(event.id());
+        } else {
+            index.put(event.id(), event.username(), event.email());
+        }
+    }
+
+    public List<PrefixIndex.Suggestion> complete(String prefix, UUID excludeUserId, int limit) {
+        return index.complete(prefix, excludeUserId, Math.min(Math.max(limit, 1), MAX_LIMIT));
+    }
+}
@@ -0,0 +1,20 @@
+package com.coursework.calendar.service;
+
+import java.util.UUID;
+
+import com.coursework.calendar.entities.user.User;
+
+/**
+ * Пользователь создан, изменен или удален. Публикуется UserService, чтобы
+ * производные структуры (например, поисковый индекс) обновились после коммита.
+ */
+public record UserChangedEvent(UUID id, String username, String email, boolean deleted) {
+
+    public static UserChangedEvent saved(User user) {
+        return new UserChangedEvent(user.getId(), user.getUsername(), user.getEmail(), false);
+    }
+
+    public static UserChangedEvent deleted(UUID id) {
+        return new UserChangedEvent(id, null, null, true);
+    }
+}
@@ -0,0 +1,63 @@
+package com.coursework.calendar.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Версии данных пользователя для условных GET-запросов. Каждая запись
+ * событий или приглашений увеличивает версию соответствующего списка,
+ * а контроллер отдает ее как ETag и отвечает 304, не обращаясь к БД, если
+ * клиент прислал тот же ETag.
+ *
+ * Версии хранятся в памяти. Эпоха запуска в ETag не дает совпасть версиям
+ * до и после перезапуска приложения.
+ */
+@Service
+public class UserDataVersions {
+    public enum Kind {
+        EVENTS, INVITATIONS
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Key, Long> versions = new ConcurrentHashMap<>();
+
+    public String eTag(Kind kind, UUID userId) {
+        return "\"" + epoch + "-" + versions.getOrDefault(new Key(kind, userId), 0L) + "\"";
+    }
+
+    /**
+     * Меняет версию списка. Внутри транзакции версия меняется еще раз после
+     * коммита, чтобы параллельный запрос не закрепил старые данные под новым
+     * ETag.
+     */
+    public void bump(Kind kind, UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        Key key = new Key(kind, userId);
+        increment(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(key);
+                }
+            });
+        }
+    }
+
+    private void increment(Key key) {
+        // Номер берется из общего счетчика, поэтому версия не повторяется
+        versions.put(key, sequence.incrementAndGet());
+    }
+
+    private record Key(Kind kind, UUID userId) {
+    }
+}
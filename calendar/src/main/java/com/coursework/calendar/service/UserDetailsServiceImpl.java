@@ -1,13 +1,12 @@
 package com.coursework.calendar.service;
 
-import java.util.Collections;
-
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.coursework.calendar.config.AuthenticatedUser;
 import com.coursework.calendar.entities.user.User;
 import com.coursework.calendar.repository.UserRepository;
 
@@ -15,21 +14,23 @@ import com.coursework.calendar.repository.UserRepository;
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserAuthCache userAuthCache;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository, UserAuthCache userAuthCache) {
         this.userRepository = userRepository;
+        this.userAuthCache = userAuthCache;
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userAuthCache.get(email, this::loadFromRepository);
+    }
+
+    private UserDetails loadFromRepository(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
 
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPasswordHash())
-                .authorities(Collections.singletonList(() -> "ROLE_" + user.getRole().name()))
-                .build();
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.getPasswordHash());
     }
 }
@@ -0,0 +1,12 @@
+package com.coursework.calendar.service;
+
+import com.coursework.calendar.entities.user.UserSummary;
+
+/**
+ * Индекс пользователей в памяти. Все индексы заполняются при старте одним
+ * проходом по таблице users (UserIndexLoader), дальше каждый обновляется
+ * сам по UserChangedEvent.
+ */
+public interface UserIndex {
+    void put(UserSummary user);
+}
@@ -0,0 +1,48 @@
+package com.coursework.calendar.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.repository.UserRepository;
+
+/**
+ * Заполняет индексы пользователей в памяти. Таблица users читается один раз
+ * keyset-страницами, каждая страница передается во все индексы. Загрузка
+ * идет после создания всех бинов, но до запуска веб-сервера, поэтому
+ * запросы не видят частично заполненных индексов.
+ */
+@Service
+public class UserIndexLoader implements SmartInitializingSingleton {
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private final UserRepository userRepository;
+    private final List<UserIndex> indexes;
+
+    public UserIndexLoader(UserRepository userRepository, List<UserIndex> indexes) {
+        this.userRepository = userRepository;
+        this.indexes = indexes;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    void load() {
+        if (indexes.isEmpty()) {
+            return;
+        }
+        List<UserSummary> batch = userRepository.findFirstPage(Limit.of(LOAD_BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            for (UserSummary user : batch) {
+                indexes.forEach(index -> index.put(user));
+            }
+            UserSummary last = batch.get(batch.size() - 1);
+            batch = userRepository.findPageAfter(last.createdAt(), last.id(), Limit.of(LOAD_BATCH_SIZE));
+        }
+    }
+}
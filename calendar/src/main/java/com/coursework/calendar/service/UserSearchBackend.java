@@ -0,0 +1,45 @@
+package com.coursework.calendar.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.repository.UserRepository;
+
+/**
+ * Поиск пользователей по username и email. Результаты упорядочены по
+ * убыванию похожести на запрос, сортировка из Pageable не применяется.
+ * Запрос короче трех символов ищется как префикс, длиннее - по похожести
+ * триграмм не ниже порога pg_trgm.similarity_threshold. Общее число
+ * совпадений не считается, страница возвращается как Slice.
+ *
+ * Реализация выбирается свойством user-search.backend:
+ * trigram - индексы pg_trgm в PostgreSQL, ngram - индекс в памяти приложения.
+ */
+public interface UserSearchBackend {
+    int MIN_SUBSTRING_LENGTH = 3;
+
+    Slice<UserSummary> search(String query, UUID excludeUserId, Pageable pageable);
+
+    /**
+     * Пользователи с id из ids в том же порядке. Пользователи, удаленные после
+     * поиска, пропускаются.
+     */
+    static List<UserSummary> findInOrder(UserRepository userRepository, List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, UserSummary> users = new HashMap<>();
+        userRepository.findSummariesByIds(ids).forEach(user -> users.put(user.id(), user));
+        return ids.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
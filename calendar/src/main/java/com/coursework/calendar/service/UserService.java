@@ -3,26 +3,73 @@ package com.coursework.calendar.service;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.pagination.Cursor;
+import com.coursework.calendar.pagination.CursorPage;
+import com.coursework.calendar.repository.EventRepository;
 import com.coursework.calendar.repository.UserRepository;
 
 @Service
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserAuthCache userAuthCache;
+    private final UserSearchBackend userSearchBackend;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventRepository eventRepository;
+    private final UserDataVersions userDataVersions;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserAuthCache userAuthCache,
+            UserSearchBackend userSearchBackend, ApplicationEventPublisher eventPublisher,
+            EventRepository eventRepository, UserDataVersions userDataVersions) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userAuthCache = userAuthCache;
+        this.userSearchBackend = userSearchBackend;
+        this.eventPublisher = eventPublisher;
+        this.eventRepository = eventRepository;
+        this.userDataVersions = userDataVersions;
     }
 
+    /**
+     * Первые CursorPage.MAX_SIZE пользователей в порядке регистрации,
+     * остальные доступны только постранично через getUsersPage.
+     */
     @Transactional(readOnly = true)
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public List<UserSummary> getAllUsers() {
+        return userRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserSummary> getUsersPage(String cursor, int size) {
+        int limit = CursorPage.limit(size);
+        List<UserSummary> users;
+        if (cursor == null || cursor.isEmpty()) {
+            users = userRepository.findFirstPage(Limit.of(limit + 1));
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            users = userRepository.findPageAfter(position.createdAt(), position.id(), Limit.of(limit + 1));
+        }
+        return CursorPage.of(users, limit, user -> new Cursor(user.createdAt(), user.id()));
+    }
+
+    // Пользователь читается по id, а не проекцией: так запрос обслуживает
+    // регион кэша второго уровня User (см. HibernateCacheConfig)
+    @Transactional(readOnly = true)
+    public UserSummary getUserSummaryById(UUID id) {
+        return userRepository.findById(id)
+                .map(UserSummary::of)
+                .orElseThrow(() -> new RuntimeException("User not found"));
     }
 
     @Transactional(readOnly = true)
@@ -44,12 +91,16 @@ public class UserService {
         }
         String hashedPassword = passwordEncoder.encode(user.getPasswordHash());
         user.setPasswordHash(hashedPassword);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.saved(savedUser));
+        return savedUser;
     }
 
     @Transactional
     public User updateUser(UUID id, User userUpdate) {
         User existingUser = getUserById(id);
+        String previousEmail = existingUser.getEmail();
+        UserRole previousRole = existingUser.getRole();
         existingUser.setEmail(userUpdate.getEmail() != null && !userUpdate.getEmail().isEmpty() ? userUpdate.getEmail()
                 : existingUser.getEmail());
         existingUser.setUsername(
@@ -61,17 +112,34 @@ public class UserService {
             String hashedPassword = passwordEncoder.encode(userUpdate.getPasswordHash());
             existingUser.setPasswordHash(hashedPassword);
         }
-        return userRepository.save(existingUser);
+        // Старые токены и закэшированные данные больше не отражают пользователя
+        if (!previousEmail.equals(existingUser.getEmail()) || previousRole != existingUser.getRole()
+                || userUpdate.getPasswordHash() != null && !userUpdate.getPasswordHash().isEmpty()) {
+            userAuthCache.evict(previousEmail);
+        }
+        User savedUser = userRepository.save(existingUser);
+        eventPublisher.publishEvent(UserChangedEvent.saved(savedUser));
+        return savedUser;
     }
 
     @Transactional
     public void deleteUser(UUID id) {
+        userRepository.findById(id).ifPresent(user -> userAuthCache.evict(user.getEmail()));
+        // События пользователя и приглашения на них удаляет база (ON DELETE CASCADE),
+        // поэтому приглашенных нужно найти до удаления
+        List<UUID> inviteeIds = eventRepository.findInviteeIdsByOwnerId(id);
         userRepository.deleteById(id);
+        userDataVersions.bump(UserDataVersions.Kind.EVENTS, id);
+        userDataVersions.bump(UserDataVersions.Kind.INVITATIONS, id);
+        // Список событий ведется по владельцу, у приглашенных меняются только приглашения
+        for (UUID inviteeId : inviteeIds) {
+            userDataVersions.bump(UserDataVersions.Kind.INVITATIONS, inviteeId);
+        }
+        eventPublisher.publishEvent(UserChangedEvent.deleted(id));
     }
 
     @Transactional(readOnly = true)
-    public org.springframework.data.domain.Page<User> searchUsers(String query, UUID excludeUserId,
-            org.springframework.data.domain.Pageable pageable) {
-        return userRepository.searchUsers(query, excludeUserId, pageable);
+    public Slice<UserSummary> searchUsers(String query, UUID excludeUserId, Pageable pageable) {
+        return userSearchBackend.search(query, excludeUserId, pageable);
     }
 }
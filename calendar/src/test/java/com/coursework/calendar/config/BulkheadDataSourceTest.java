@@ -0,0 +1,148 @@
+package com.coursework.calendar.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private BulkheadDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new BulkheadDataSource(target, 2, 50);
+    }
+
+    @Test
+    void getConnection_ShouldTakePermitUntilClose() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+
+        // Act
+        Connection result = dataSource.getConnection();
+        int availableWhileOpen = dataSource.getAvailablePermits();
+        result.close();
+
+        // Assert
+        assertEquals(1, availableWhileOpen);
+        assertEquals(2, dataSource.getAvailablePermits());
+        verify(connection, times(1)).close();
+        assertSame(connection, ((ConnectionProxy) result).getTargetConnection());
+    }
+
+    @Test
+    void close_WhenCalledTwice_ShouldReleasePermitOnce() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        // Act
+        first.close();
+        first.close();
+
+        // Assert
+        assertEquals(1, dataSource.getAvailablePermits());
+        second.close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void close_WhenTargetCloseFails_ShouldStillReleasePermit() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        doThrow(new SQLException("broken")).when(connection).close();
+        Connection result = dataSource.getConnection();
+
+        // Act
+        SQLException exception = assertThrows(SQLException.class, result::close);
+
+        // Assert
+        assertEquals("broken", exception.getMessage());
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_WhenTargetFails_ShouldReleasePermit() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenThrow(new SQLException("pool is down"));
+
+        // Act
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        // Assert
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_WithCredentials_WhenTargetFails_ShouldReleasePermit() throws SQLException {
+        // Arrange
+        when(target.getConnection("user", "secret")).thenThrow(new IllegalStateException("closed"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> dataSource.getConnection("user", "secret"));
+
+        // Assert
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_WhenLimitReached_ShouldFailAfterTimeout() throws SQLException {
+        // Arrange
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class,
+                dataSource::getConnection);
+
+        // Assert
+        assertTrue(exception.getMessage().contains("limit of 2"));
+        assertEquals(0, dataSource.getAvailablePermits());
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    void getConnection_ShouldRecordWaitByOutcome() throws SQLException {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer acquired = registry.timer("datasource.bulkhead.acquire", "outcome", "acquired");
+        Timer rejected = registry.timer("datasource.bulkhead.acquire", "outcome", "rejected");
+        dataSource.setAcquireTimers(acquired, rejected);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // Act
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        // Assert
+        assertEquals(2, acquired.count());
+        assertEquals(1, rejected.count());
+        assertTrue(rejected.totalTime(TimeUnit.MILLISECONDS) >= 50);
+    }
+}
@@ -0,0 +1,66 @@
+package com.coursework.calendar.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.coursework.calendar.repository.UserRepository;
+
+@SpringBootTest(properties = {
+        "datasource.bulkhead.max-concurrent=1",
+        "datasource.bulkhead.acquire-timeout=100"
+})
+class DataSourceBulkheadConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DatabaseUnavailableHandler databaseUnavailableHandler;
+
+    @Test
+    void dataSource_ShouldBeWrappedInBulkhead() {
+        // Assert
+        BulkheadDataSource bulkhead = assertInstanceOf(BulkheadDataSource.class, dataSource);
+        assertEquals(1, bulkhead.getMaxConcurrent());
+    }
+
+    @Test
+    void transaction_WhenLimitReached_ShouldBeMappedTo503() throws SQLException {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CannotCreateTransactionException exception;
+
+        // Act
+        try (Connection held = dataSource.getConnection()) {
+            exception = assertThrows(CannotCreateTransactionException.class,
+                    () -> transactionTemplate.execute(status -> userRepository.count()));
+        }
+        ResponseEntity<ProblemDetail> response = databaseUnavailableHandler.handleDatabaseUnavailable(exception);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, ((BulkheadDataSource) dataSource).getAvailablePermits());
+    }
+}
@@ -0,0 +1,42 @@
+package com.coursework.calendar.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import com.coursework.calendar.entities.user.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class HibernateCacheDisabledConfigTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void secondLevelCache_ByDefault_ShouldBeOff() {
+        // Act
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+
+        // Assert
+        assertFalse(options.isSecondLevelCacheEnabled());
+        assertFalse(options.isQueryCacheEnabled());
+        assertFalse(sessionFactory.getCache().containsEntity(User.class, UUID.randomUUID()));
+        assertTrue(applicationContext.getBeansOfType(CacheManager.class).isEmpty());
+        assertTrue(applicationContext.getBeansOfType(HibernateCacheConfig.CascadeEviction.class).isEmpty());
+    }
+}
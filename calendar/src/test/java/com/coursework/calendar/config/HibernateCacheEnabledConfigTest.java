@@ -0,0 +1,110 @@
+package com.coursework.calendar.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.repository.UserRepository;
+import com.coursework.calendar.service.UserService;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = {
+        "hibernate-cache.enabled=true",
+        "hibernate-cache.users.max-size=100",
+        "hibernate-cache.users.ttl=1000",
+        "hibernate-cache.events.max-size=200",
+        "hibernate-cache.queries.max-size=300"
+})
+class HibernateCacheEnabledConfigTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager hibernateCacheManager;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void secondLevelCache_WhenEnabled_ShouldBeOn() {
+        // Act
+        SessionFactoryOptions options = entityManagerFactory.unwrap(SessionFactory.class).getSessionFactoryOptions();
+
+        // Assert
+        assertTrue(options.isSecondLevelCacheEnabled());
+        assertTrue(options.isQueryCacheEnabled());
+        assertEquals(1, applicationContext.getBeansOfType(HibernateCacheConfig.CascadeEviction.class).size());
+    }
+
+    @Test
+    void regions_WhenEnabled_ShouldBeBounded() {
+        // Act
+        CaffeineConfiguration<?, ?> users = configuration(User.CACHE_REGION);
+        CaffeineConfiguration<?, ?> events = configuration(Event.CACHE_REGION);
+        CaffeineConfiguration<?, ?> queries = configuration(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+
+        // Assert
+        assertEquals(OptionalLong.of(100), users.getMaximumSize());
+        assertEquals(OptionalLong.of(TimeUnit.SECONDS.toNanos(1)), users.getExpireAfterWrite());
+        assertEquals(OptionalLong.of(200), events.getMaximumSize());
+        assertEquals(OptionalLong.of(300), queries.getMaximumSize());
+    }
+
+    @Test
+    void getUserSummaryById_WhenEnabled_ShouldBeServedFromUserRegion() {
+        // Arrange
+        User user = new User();
+        user.setUsername("cached");
+        user.setEmail("cached-" + UUID.randomUUID() + "@example.com");
+        user.setPasswordHash("hash");
+        user.setRole(UserRole.USER);
+        user.setCreatedAt(LocalDateTime.now());
+        UUID id = userRepository.save(user).getId();
+        entityManagerFactory.getCache().evict(User.class);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Act
+        userService.getUserSummaryById(id);
+        long hitsBefore = statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount();
+        UserSummary summary = userService.getUserSummaryById(id);
+
+        // Assert
+        assertEquals(id, summary.id());
+        assertEquals(hitsBefore + 1, statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount());
+        userRepository.deleteById(id);
+    }
+
+    private CaffeineConfiguration<?, ?> configuration(String region) {
+        Cache<?, ?> cache = hibernateCacheManager.getCache(region);
+        assertNotNull(cache, region);
+        return cache.getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -0,0 +1,70 @@
+package com.coursework.calendar.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class PublicPathClassifierTest {
+
+    private final PublicPathClassifier classifier = new PublicPathClassifier(List.of(
+            "/api/auth/login", " /index.html ", "/assets/**", "/v3/api-docs/**", "/*.js", "/*.css"));
+
+    @Test
+    void isPublic_ShouldMatchExactPathsOnly() {
+        // Assert
+        assertTrue(classifier.isPublic("/api/auth/login"));
+        assertTrue(classifier.isPublic("/index.html"));
+        assertFalse(classifier.isPublic("/api/auth/login/extra"));
+        assertFalse(classifier.isPublic("/api/auth"));
+        assertFalse(classifier.isPublic("/api/auth/logout"));
+    }
+
+    @Test
+    void isPublic_ShouldMatchDirectoryPatternIncludingBarePath() {
+        // Assert
+        assertTrue(classifier.isPublic("/assets"));
+        assertTrue(classifier.isPublic("/assets/"));
+        assertTrue(classifier.isPublic("/assets/index-abc.js"));
+        assertTrue(classifier.isPublic("/v3/api-docs"));
+        assertTrue(classifier.isPublic("/v3/api-docs/swagger-config"));
+        assertFalse(classifier.isPublic("/assetsx"));
+        assertFalse(classifier.isPublic("/v3"));
+        assertFalse(classifier.isPublic("/v3/api"));
+    }
+
+    @Test
+    void isPublic_ShouldMatchExtensionsOnlyAtRoot() {
+        // Assert
+        assertTrue(classifier.isPublic("/app.js"));
+        assertTrue(classifier.isPublic("/styles.css"));
+        assertFalse(classifier.isPublic("/api/foo.js"));
+        assertFalse(classifier.isPublic("/api/users/1.css"));
+        assertFalse(classifier.isPublic("/app.json"));
+        assertFalse(classifier.isPublic("/js"));
+    }
+
+    @Test
+    void matches_ShouldStripContextPath() {
+        // Arrange
+        MockHttpServletRequest publicRequest = new MockHttpServletRequest("POST", "/calendar/api/auth/login");
+        publicRequest.setContextPath("/calendar");
+        MockHttpServletRequest privateRequest = new MockHttpServletRequest("GET", "/calendar/api/events");
+        privateRequest.setContextPath("/calendar");
+
+        // Assert
+        assertTrue(classifier.matches(publicRequest));
+        assertFalse(classifier.matches(privateRequest));
+    }
+
+    @Test
+    void constructor_ShouldRejectUnsupportedPatterns() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> new PublicPathClassifier(List.of("api/auth/login")));
+        assertThrows(IllegalArgumentException.class, () -> new PublicPathClassifier(List.of("/api/*/login")));
+        assertThrows(IllegalArgumentException.class, () -> new PublicPathClassifier(List.of("/assets/*.js")));
+        assertThrows(IllegalArgumentException.class, () -> new PublicPathClassifier(List.of("/assets/*")));
+    }
+}
@@ -0,0 +1,216 @@
+package com.coursework.calendar.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.RepositoryMethodContext;
+import org.springframework.data.repository.core.RepositoryMethodContextHolder;
+
+import com.coursework.calendar.repository.UserRepository;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+@ExtendWith(MockitoExtension.class)
+class SlowQueryLoggingDataSourceTest {
+    private static final long THRESHOLD_MS = 50;
+    private static final String SELECT = "select * from users";
+    private static final String UPDATE = "update users set username = ?";
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLoggingDataSource.class);
+
+    private SlowQueryLoggingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        appender.start();
+        logger.addAppender(appender);
+        when(target.getConnection()).thenReturn(connection);
+        dataSource = new SlowQueryLoggingDataSource(target, THRESHOLD_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+        RepositoryMethodContextHolder.setContext(null);
+    }
+
+    @Test
+    void executeUpdate_WhenFasterThanThreshold_ShouldNotLog() throws SQLException {
+        // Arrange
+        when(connection.prepareStatement(UPDATE)).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(3);
+
+        // Act
+        try (Connection wrapped = dataSource.getConnection();
+                PreparedStatement prepared = wrapped.prepareStatement(UPDATE)) {
+            assertEquals(3, prepared.executeUpdate());
+        }
+
+        // Assert
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void executeUpdate_WhenSlowerThanThreshold_ShouldLogUpdatedRows() throws SQLException {
+        // Arrange
+        when(connection.prepareStatement(UPDATE)).thenReturn(statement);
+        when(statement.executeUpdate()).thenAnswer(invocation -> {
+            Thread.sleep(THRESHOLD_MS + 10);
+            return 3;
+        });
+
+        // Act
+        try (Connection wrapped = dataSource.getConnection();
+                PreparedStatement prepared = wrapped.prepareStatement(UPDATE)) {
+            prepared.executeUpdate();
+        }
+
+        // Assert
+        Map<String, Object> values = singleSlowQuery();
+        assertEquals(3L, values.get("rows"));
+        assertEquals(UPDATE, values.get("sql"));
+        assertTrue((Long) values.get("durationMs") >= THRESHOLD_MS);
+    }
+
+    @Test
+    void executeQuery_ShouldCountRowsAndTimeSpentInNext() throws SQLException {
+        // Arrange
+        when(connection.prepareStatement(SELECT)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            Thread.sleep(THRESHOLD_MS / 2 + 5);
+            return true;
+        }).thenAnswer(invocation -> {
+            Thread.sleep(THRESHOLD_MS / 2 + 5);
+            return true;
+        }).thenReturn(false);
+
+        // Act
+        try (Connection wrapped = dataSource.getConnection();
+                PreparedStatement prepared = wrapped.prepareStatement(SELECT);
+                ResultSet rows = prepared.executeQuery()) {
+            while (rows.next()) {
+                // Чтение строк
+            }
+        }
+
+        // Assert
+        Map<String, Object> values = singleSlowQuery();
+        assertEquals(2L, values.get("rows"));
+        assertEquals(SELECT, values.get("sql"));
+    }
+
+    @Test
+    void executeQuery_ShouldNotCountCallerTimeBetweenRows() throws Exception {
+        // Arrange
+        when(connection.prepareStatement(SELECT)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        // Act
+        try (Connection wrapped = dataSource.getConnection();
+                PreparedStatement prepared = wrapped.prepareStatement(SELECT);
+                ResultSet rows = prepared.executeQuery()) {
+            while (rows.next()) {
+                Thread.sleep(THRESHOLD_MS);
+            }
+        }
+
+        // Assert
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void executeQuery_ShouldAttributeToRepositoryMethodEvenIfClosedOutsideIt() throws Exception {
+        // Arrange
+        when(connection.prepareStatement(SELECT)).thenReturn(statement);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            Thread.sleep(THRESHOLD_MS + 10);
+            return resultSet;
+        });
+        RepositoryMethodContextHolder.setContext(repositoryMethod(
+                UserRepository.class.getMethod("findByEmail", String.class)));
+
+        // Act
+        try (Connection wrapped = dataSource.getConnection();
+                PreparedStatement prepared = wrapped.prepareStatement(SELECT)) {
+            ResultSet rows = prepared.executeQuery();
+            RepositoryMethodContextHolder.setContext(null);
+            rows.close();
+        }
+
+        // Assert
+        assertEquals("UserRepository.findByEmail", singleSlowQuery().get("caller"));
+    }
+
+    @Test
+    void executeQuery_WhenClosedWithStatement_ShouldLogOnce() throws Exception {
+        // Arrange
+        when(connection.prepareStatement(SELECT)).thenReturn(statement);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            Thread.sleep(THRESHOLD_MS + 10);
+            return resultSet;
+        });
+
+        // Act
+        try (Connection wrapped = dataSource.getConnection();
+                PreparedStatement prepared = wrapped.prepareStatement(SELECT)) {
+            ResultSet rows = prepared.executeQuery();
+            prepared.close();
+            rows.close();
+        }
+
+        // Assert
+        assertEquals(0L, singleSlowQuery().get("rows"));
+    }
+
+    private Map<String, Object> singleSlowQuery() {
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertTrue(event.getFormattedMessage().startsWith("Slow query: "));
+        return event.getKeyValuePairs().stream()
+                .collect(Collectors.toMap(pair -> pair.key, pair -> pair.value));
+    }
+
+    private static RepositoryMethodContext repositoryMethod(Method method) {
+        RepositoryMetadata metadata = mock(RepositoryMetadata.class);
+        doReturn(method.getDeclaringClass()).when(metadata).getRepositoryInterface();
+        RepositoryMethodContext context = mock(RepositoryMethodContext.class);
+        when(context.getMetadata()).thenReturn(metadata);
+        when(context.getMethod()).thenReturn(method);
+        return context;
+    }
+}
@@ -0,0 +1,74 @@
+package com.coursework.calendar.pagination;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class CursorTest {
+
+    @Test
+    void decode_ShouldReturnEncodedCursor() {
+        // Arrange
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 1, 1, 12, 0, 30, 123456789), UUID.randomUUID());
+
+        // Act
+        Cursor result = Cursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor, result);
+    }
+
+    @Test
+    void encode_ShouldProduceUrlSafeStringWithoutPadding() {
+        // Arrange
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 1, 1, 12, 0), UUID.randomUUID());
+
+        // Act
+        String result = cursor.encode();
+
+        // Assert
+        assertTrue(result.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void decode_WithInvalidBase64_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode("not base64!"));
+    }
+
+    @Test
+    void decode_WithoutSeparator_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        String value = encodeRaw("2025-01-01T12:00");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode(value));
+    }
+
+    @Test
+    void decode_WithInvalidDate_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        String value = encodeRaw("yesterday|" + UUID.randomUUID());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode(value));
+    }
+
+    @Test
+    void decode_WithInvalidId_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        String value = encodeRaw("2025-01-01T12:00|42");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> Cursor.decode(value));
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
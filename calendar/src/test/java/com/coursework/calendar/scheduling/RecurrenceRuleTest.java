@@ -0,0 +1,37 @@
+package com.coursework.calendar.scheduling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+class RecurrenceRuleTest {
+
+    @Test
+    void parse_WithBoundaryValues_ShouldReturnRule() {
+        // Act
+        RecurrenceRule result = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=1000;COUNT=10000");
+
+        // Assert
+        assertEquals(RecurrenceRule.Frequency.MONTHLY, result.frequency());
+        assertEquals(RecurrenceRule.MAX_INTERVAL, result.interval());
+        assertEquals(RecurrenceRule.MAX_COUNT, result.count());
+        assertNotNull(result.seriesEnd(LocalDateTime.of(2025, 1, 31, 10, 0), Duration.ofHours(1)));
+    }
+
+    @Test
+    void parse_WithTooLargeInterval_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=1001"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2147483647"));
+    }
+
+    @Test
+    void parse_WithTooLargeCount_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;COUNT=10001"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=WEEKLY;COUNT=99999999999"));
+    }
+}
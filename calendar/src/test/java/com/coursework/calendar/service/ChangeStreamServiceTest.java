@@ -0,0 +1,148 @@
+package com.coursework.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ChangeStreamServiceTest {
+
+    private final ChangeStreamService changeStreamService = new ChangeStreamService(4, 2, 60000);
+
+    @AfterEach
+    void tearDown() {
+        changeStreamService.shutdown();
+    }
+
+    @Test
+    void onChange_ShouldDeliverOnlyToRecipients() throws InterruptedException {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        RecordingSink sink = new RecordingSink();
+        RecordingSink otherSink = new RecordingSink();
+        changeStreamService.subscribe(userId, sink);
+        changeStreamService.subscribe(otherUserId, otherSink);
+        ChangeNotification notification = invitation(userId);
+
+        // Act
+        changeStreamService.onChange(notification);
+
+        // Assert
+        assertEquals(notification, sink.received.poll(5, TimeUnit.SECONDS));
+        assertNull(otherSink.received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void onChange_WhenQueueOverflows_ShouldReplaceBacklogWithResync() throws InterruptedException {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        RecordingSink sink = new RecordingSink();
+        changeStreamService.subscribe(userId, sink);
+        // Первое уведомление блокирует доставку, пока очередь не переполнится
+        sink.blockNextSend();
+        changeStreamService.onChange(invitation(userId));
+        sink.awaitBlocked();
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            changeStreamService.onChange(invitation(userId));
+        }
+        sink.unblock();
+
+        // Assert
+        assertEquals(ChangeNotification.Type.INVITATION, sink.received.poll(5, TimeUnit.SECONDS).type());
+        assertEquals(ChangeNotification.Type.RESYNC, sink.received.poll(5, TimeUnit.SECONDS).type());
+        assertNull(sink.received.poll(100, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void onChange_WhenSinkFails_ShouldCloseSubscription() throws InterruptedException {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        RecordingSink sink = new RecordingSink();
+        sink.failing = true;
+        changeStreamService.subscribe(userId, sink);
+
+        // Act
+        changeStreamService.onChange(invitation(userId));
+
+        // Assert
+        assertTrue(sink.closed.await(5, TimeUnit.SECONDS));
+        assertEquals(0, changeStreamService.getSubscriptionCount());
+    }
+
+    @Test
+    void subscribe_WhenLimitExceeded_ShouldCloseOldestSubscription() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        RecordingSink oldest = new RecordingSink();
+        changeStreamService.subscribe(userId, oldest);
+        changeStreamService.subscribe(userId, new RecordingSink());
+
+        // Act
+        changeStreamService.subscribe(userId, new RecordingSink());
+
+        // Assert
+        assertEquals(0, oldest.closed.getCount());
+        assertEquals(2, changeStreamService.getSubscriptionCount());
+    }
+
+    private static ChangeNotification invitation(UUID userId) {
+        return new ChangeNotification(ChangeNotification.Type.INVITATION, UUID.randomUUID(), "PENDING", Set.of(userId));
+    }
+
+    private static class RecordingSink implements ChangeStreamService.ChangeSink {
+        final BlockingQueue<ChangeNotification> received = new LinkedBlockingQueue<>();
+        final CountDownLatch closed = new CountDownLatch(1);
+        volatile boolean failing;
+        private volatile CountDownLatch blocked;
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        void blockNextSend() {
+            blocked = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        }
+
+        void unblock() {
+            release.countDown();
+        }
+
+        @Override
+        public void send(ChangeNotification notification) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            CountDownLatch latch = blocked;
+            if (latch != null && latch.getCount() > 0) {
+                latch.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            received.add(notification);
+        }
+
+        @Override
+        public void heartbeat() {
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -4,8 +4,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,9 +18,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import com.coursework.calendar.entities.contact.ContactRequest;
 import com.coursework.calendar.entities.contact.ContactRequestStatus;
+import com.coursework.calendar.pagination.CursorPage;
 import com.coursework.calendar.repository.ContactRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +37,9 @@ class ContactServiceTest {
     @Mock
     private ContactRepository contactRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ContactService contactService;
 
@@ -45,7 +58,7 @@ class ContactServiceTest {
     }
 
     @Test
-    void getAllContactRequests_ShouldReturnListOfContactRequests() {
+    void getAllContactRequests_ShouldReturnFirstPage() {
         // Arrange
         ContactRequest request1 = new ContactRequest(UUID.randomUUID(), LocalDateTime.now(), null, 
                 UUID.randomUUID(), UUID.randomUUID(), ContactRequestStatus.PENDING);
@@ -53,7 +66,7 @@ class ContactServiceTest {
                 UUID.randomUUID(), UUID.randomUUID(), ContactRequestStatus.ACCEPTED);
         List<ContactRequest> expectedRequests = Arrays.asList(request1, request2);
 
-        when(contactRepository.findAll()).thenReturn(expectedRequests);
+        when(contactRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE))).thenReturn(expectedRequests);
 
         // Act
         List<ContactRequest> result = contactService.getAllContactRequests();
@@ -62,7 +75,7 @@ class ContactServiceTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(expectedRequests, result);
-        verify(contactRepository, times(1)).findAll();
+        verify(contactRepository, never()).findAll();
     }
 
     @Test
@@ -110,11 +123,9 @@ class ContactServiceTest {
         ContactRequest toRequest2 = new ContactRequest(UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now(), 
                 UUID.randomUUID(), userId, ContactRequestStatus.REJECTED);
 
-        List<ContactRequest> fromRequests = Arrays.asList(fromRequest1, fromRequest2);
-        List<ContactRequest> toRequests = Arrays.asList(toRequest1, toRequest2);
+        List<ContactRequest> requests = Arrays.asList(fromRequest1, fromRequest2, toRequest1, toRequest2);
 
-        when(contactRepository.findByFromUserId(userId)).thenReturn(fromRequests);
-        when(contactRepository.findByToUserId(userId)).thenReturn(toRequests);
+        when(contactRepository.findByParticipant(userId)).thenReturn(requests);
 
         // Act
         List<ContactRequest> result = contactService.getContactRequestsByUserId(userId);
@@ -122,18 +133,15 @@ class ContactServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(4, result.size());
-        assertTrue(result.containsAll(fromRequests));
-        assertTrue(result.containsAll(toRequests));
-        verify(contactRepository, times(1)).findByFromUserId(userId);
-        verify(contactRepository, times(1)).findByToUserId(userId);
+        assertTrue(result.containsAll(requests));
+        verify(contactRepository, times(1)).findByParticipant(userId);
     }
 
     @Test
     void getContactRequestsByUserId_WhenNoRequests_ShouldReturnEmptyList() {
         // Arrange
         UUID userId = UUID.randomUUID();
-        when(contactRepository.findByFromUserId(userId)).thenReturn(Arrays.asList());
-        when(contactRepository.findByToUserId(userId)).thenReturn(Arrays.asList());
+        when(contactRepository.findByParticipant(userId)).thenReturn(Arrays.asList());
 
         // Act
         List<ContactRequest> result = contactService.getContactRequestsByUserId(userId);
@@ -141,8 +149,57 @@ class ContactServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(contactRepository, times(1)).findByFromUserId(userId);
-        verify(contactRepository, times(1)).findByToUserId(userId);
+        verify(contactRepository, times(1)).findByParticipant(userId);
+    }
+
+    @Test
+    void getContactRequestsByUserIdPage_WithoutStatuses_ShouldFilterByAnyStatus() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(0, 20);
+        ContactRequest request = new ContactRequest(UUID.randomUUID(), LocalDateTime.now(), null,
+                userId, UUID.randomUUID(), ContactRequestStatus.PENDING);
+        when(contactRepository.findByParticipant(userId, EnumSet.allOf(ContactRequestStatus.class), pageable))
+                .thenReturn(new SliceImpl<>(List.of(request), pageable, false));
+
+        // Act
+        Slice<ContactRequest> result = contactService.getContactRequestsByUserId(userId, null, pageable);
+
+        // Assert
+        assertEquals(List.of(request), result.getContent());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void getContactRequestsByUserIdPage_WithStatuses_ShouldPassStatusesToRepository() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(1, 10);
+        List<ContactRequestStatus> statuses = List.of(ContactRequestStatus.ACCEPTED);
+        when(contactRepository.findByParticipant(userId, statuses, pageable))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // Act
+        Slice<ContactRequest> result = contactService.getContactRequestsByUserId(userId, statuses, pageable);
+
+        // Assert
+        assertTrue(result.getContent().isEmpty());
+        verify(contactRepository, times(1)).findByParticipant(userId, statuses, pageable);
+    }
+
+    @Test
+    void getContactIds_ShouldReturnCounterpartIdsFromRepository() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        List<UUID> contactIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+        when(contactRepository.findContactIds(userId)).thenReturn(contactIds);
+
+        // Act
+        List<UUID> result = contactService.getContactIds(userId);
+
+        // Assert
+        assertEquals(contactIds, result);
+        verify(contactRepository, times(1)).findContactIds(userId);
     }
 
     @Test
@@ -153,7 +210,7 @@ class ContactServiceTest {
         ContactRequest savedRequest = new ContactRequest(UUID.randomUUID(), LocalDateTime.now(), null, 
                 testFromUserId, testToUserId, ContactRequestStatus.PENDING);
 
-        when(contactRepository.save(any(ContactRequest.class))).thenReturn(savedRequest);
+        when(contactRepository.saveAndFlush(any(ContactRequest.class))).thenReturn(savedRequest);
 
         // Act
         ContactRequest result = contactService.createContactRequest(newRequest);
@@ -163,7 +220,54 @@ class ContactServiceTest {
         assertEquals(savedRequest.getId(), result.getId());
         assertEquals(savedRequest.getFromUserId(), result.getFromUserId());
         assertEquals(savedRequest.getToUserId(), result.getToUserId());
-        verify(contactRepository, times(1)).save(any(ContactRequest.class));
+        verify(contactRepository, times(1)).saveAndFlush(any(ContactRequest.class));
+        verify(eventPublisher).publishEvent(ChangeNotification.contactRequest(savedRequest));
+    }
+
+    @Test
+    void createContactRequest_WhenActiveRequestExists_ShouldThrowIllegalStateException() {
+        // Arrange
+        ContactRequest newRequest = new ContactRequest(null, LocalDateTime.now(), null,
+                testFromUserId, testToUserId, ContactRequestStatus.PENDING);
+        when(contactRepository.saveAndFlush(any(ContactRequest.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uq_contact_requests_active_pair\"")));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+            contactService.createContactRequest(newRequest);
+        });
+
+        assertEquals("Contact request already exists between these users", exception.getMessage());
+    }
+
+    @Test
+    void createContactRequest_WhenOtherConstraintViolated_ShouldRethrow() {
+        // Arrange
+        ContactRequest newRequest = new ContactRequest(null, LocalDateTime.now(), null,
+                testFromUserId, testToUserId, ContactRequestStatus.PENDING);
+        when(contactRepository.saveAndFlush(any(ContactRequest.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("insert violates foreign key constraint \"fk_contact_requests_to_user\"")));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> {
+            contactService.createContactRequest(newRequest);
+        });
+    }
+
+    @Test
+    void createContactRequest_ToYourself_ShouldThrowWithoutSaving() {
+        // Arrange
+        ContactRequest newRequest = new ContactRequest(null, LocalDateTime.now(), null,
+                testFromUserId, testFromUserId, ContactRequestStatus.PENDING);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            contactService.createContactRequest(newRequest);
+        });
+
+        verify(contactRepository, never()).saveAndFlush(any(ContactRequest.class));
     }
 
     @Test
@@ -175,7 +279,7 @@ class ContactServiceTest {
                 LocalDateTime.now(), testFromUserId, testToUserId, ContactRequestStatus.ACCEPTED);
 
         when(contactRepository.findById(testContactRequestId)).thenReturn(Optional.of(testContactRequest));
-        when(contactRepository.save(any(ContactRequest.class))).thenReturn(updatedRequest);
+        when(contactRepository.saveAndFlush(any(ContactRequest.class))).thenReturn(updatedRequest);
 
         // Act
         ContactRequest result = contactService.updateContactRequest(testContactRequestId, updateData);
@@ -184,7 +288,7 @@ class ContactServiceTest {
         assertNotNull(result);
         assertEquals(ContactRequestStatus.ACCEPTED, result.getStatus());
         verify(contactRepository, times(1)).findById(testContactRequestId);
-        verify(contactRepository, times(1)).save(any(ContactRequest.class));
+        verify(contactRepository, times(1)).saveAndFlush(any(ContactRequest.class));
     }
 
     @Test
@@ -202,7 +306,7 @@ class ContactServiceTest {
 
         assertEquals("Contact request not found", exception.getMessage());
         verify(contactRepository, times(1)).findById(nonExistentId);
-        verify(contactRepository, never()).save(any(ContactRequest.class));
+        verify(contactRepository, never()).saveAndFlush(any(ContactRequest.class));
     }
 
     @Test
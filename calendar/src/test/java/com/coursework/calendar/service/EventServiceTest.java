@@ -5,10 +5,12 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,10 +18,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.coursework.calendar.entities.event.Event;
 import com.coursework.calendar.entities.event.EventStatus;
+import com.coursework.calendar.entities.event.EventSummary;
+import com.coursework.calendar.pagination.Cursor;
+import com.coursework.calendar.pagination.CursorPage;
 import com.coursework.calendar.repository.EventRepository;
+import com.coursework.calendar.scheduling.EventConflictException;
+import com.coursework.calendar.scheduling.EventOccurrence;
+
+import jakarta.persistence.EntityManager;
 
 @ExtendWith(MockitoExtension.class)
 class EventServiceTest {
@@ -27,6 +37,12 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private UserDataVersions userDataVersions;
+
     @InjectMocks
     private EventService eventService;
 
@@ -44,7 +60,7 @@ class EventServiceTest {
     }
 
     @Test
-    void getAllEvents_ShouldReturnListOfEvents() {
+    void getAllEvents_ShouldReturnFirstPage() {
         // Arrange
         Event event1 = new Event(UUID.randomUUID(), "Event 1", "Description 1", 
                 LocalDateTime.now(), LocalDateTime.now().plusHours(1), 
@@ -52,18 +68,18 @@ class EventServiceTest {
         Event event2 = new Event(UUID.randomUUID(), "Event 2", "Description 2", 
                 LocalDateTime.now(), LocalDateTime.now().plusHours(2), 
                 UUID.randomUUID(), LocalDateTime.now(), EventStatus.DRAFT);
-        List<Event> expectedEvents = Arrays.asList(event1, event2);
+        List<EventSummary> expectedEvents = Arrays.asList(summary(event1), summary(event2));
 
-        when(eventRepository.findAll()).thenReturn(expectedEvents);
+        when(eventRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE))).thenReturn(expectedEvents);
 
         // Act
-        List<Event> result = eventService.getAllEvents();
+        List<EventSummary> result = eventService.getAllEvents();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(expectedEvents, result);
-        verify(eventRepository, times(1)).findAll();
+        verify(eventRepository, never()).findAll();
     }
 
     @Test
@@ -106,12 +122,12 @@ class EventServiceTest {
         Event event2 = new Event(UUID.randomUUID(), "Event 2", "Description 2", 
                 LocalDateTime.now(), LocalDateTime.now().plusHours(2), 
                 testOwnerId, LocalDateTime.now(), EventStatus.DRAFT);
-        List<Event> expectedEvents = Arrays.asList(event1, event2);
+        List<EventSummary> expectedEvents = Arrays.asList(summary(event1), summary(event2));
 
         when(eventRepository.findByOwnerId(testOwnerId)).thenReturn(expectedEvents);
 
         // Act
-        List<Event> result = eventService.getEventsByUserId(testOwnerId);
+        List<EventSummary> result = eventService.getEventsByUserId(testOwnerId);
 
         // Assert
         assertNotNull(result);
@@ -127,7 +143,7 @@ class EventServiceTest {
         when(eventRepository.findByOwnerId(userId)).thenReturn(Arrays.asList());
 
         // Act
-        List<Event> result = eventService.getEventsByUserId(userId);
+        List<EventSummary> result = eventService.getEventsByUserId(userId);
 
         // Assert
         assertNotNull(result);
@@ -135,6 +151,172 @@ class EventServiceTest {
         verify(eventRepository, times(1)).findByOwnerId(userId);
     }
 
+    @Test
+    void getEventsInRange_ShouldReturnOverlappingEvents() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 4, 1, 0, 0);
+        Event event = new Event(UUID.randomUUID(), "Event", "Description",
+                from.minusHours(1), from.plusHours(1),
+                testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        when(eventRepository.findOverlapping(testOwnerId, from, to)).thenReturn(List.of(summary(event)));
+
+        // Act
+        List<EventSummary> result = eventService.getEventsInRange(testOwnerId, from, to);
+
+        // Assert
+        assertEquals(List.of(summary(event)), result);
+        verify(eventRepository, times(1)).findOverlapping(testOwnerId, from, to);
+        verify(eventRepository, never()).findByOwnerId(any());
+    }
+
+    @Test
+    void getEventsInRange_WithOpenEndedWeeklySeries_ShouldExpandOnlyInsideWindow() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 3, 22, 0, 0);
+        // Понедельник, 6 января 2020 - серия идет больше пяти лет до начала окна
+        Event series = new Event(UUID.randomUUID(), "Weekly", "Description",
+                LocalDateTime.of(2020, 1, 6, 10, 0), LocalDateTime.of(2020, 1, 6, 11, 0),
+                testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        series.setRecurrenceRule("FREQ=WEEKLY");
+        series.setRecurrenceExceptions("2025-03-10T10:00");
+        when(eventRepository.findOverlapping(testOwnerId, from, to)).thenReturn(List.of(summary(series)));
+
+        // Act
+        List<EventSummary> result = eventService.getEventsInRange(testOwnerId, from, to);
+
+        // Assert
+        assertEquals(List.of(LocalDateTime.of(2025, 3, 3, 10, 0), LocalDateTime.of(2025, 3, 17, 10, 0)),
+                result.stream().map(EventSummary::startTime).toList());
+        assertEquals(LocalDateTime.of(2025, 3, 3, 11, 0), result.get(0).endTime());
+        assertEquals(series.getId(), result.get(0).id());
+    }
+
+    @Test
+    void getEventsInRange_WithMonthlySeries_ShouldKeepDayOfMonthAfterShortMonth() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 2, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 5, 1, 0, 0);
+        Event series = new Event(UUID.randomUUID(), "Monthly", "Description",
+                LocalDateTime.of(2025, 1, 31, 9, 0), LocalDateTime.of(2025, 1, 31, 10, 0),
+                testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        series.setRecurrenceRule("FREQ=MONTHLY;COUNT=3");
+        when(eventRepository.findOverlapping(testOwnerId, from, to)).thenReturn(List.of(summary(series)));
+
+        // Act
+        List<EventSummary> result = eventService.getEventsInRange(testOwnerId, from, to);
+
+        // Assert
+        assertEquals(List.of(LocalDateTime.of(2025, 2, 28, 9, 0), LocalDateTime.of(2025, 3, 31, 9, 0)),
+                result.stream().map(EventSummary::startTime).toList());
+    }
+
+    @Test
+    void getEventsInRange_WhenRangeIsEmpty_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            eventService.getEventsInRange(testOwnerId, from, from);
+        });
+
+        verify(eventRepository, never()).findOverlapping(any(), any(), any());
+    }
+
+    @Test
+    void getEventsInRange_WhenRangeIsTooWide_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(1, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> {
+            eventService.getEventsInRange(testOwnerId, from, to);
+        });
+
+        verify(eventRepository, never()).findOverlapping(any(), any(), any());
+    }
+
+    @Test
+    void getEventsInRange_WithUntilBeforeStart_ShouldReturnNoOccurrences() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2025, 3, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 3, 8, 0, 0);
+        Event series = new Event(UUID.randomUUID(), "Daily", "Description",
+                LocalDateTime.of(2025, 3, 3, 10, 0), LocalDateTime.of(2025, 3, 3, 11, 0),
+                testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        series.setRecurrenceRule("FREQ=DAILY;UNTIL=20250302T000000");
+        when(eventRepository.findOverlapping(testOwnerId, from, to)).thenReturn(List.of(summary(series)));
+
+        // Act
+        List<EventSummary> result = eventService.getEventsInRange(testOwnerId, from, to);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void getEventsPage_WhenMoreRowsExist_ShouldReturnNextCursor() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Event event1 = new Event(UUID.randomUUID(), "Event 1", "Description 1",
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1),
+                testOwnerId, createdAt, EventStatus.PUBLISHED);
+        Event event2 = new Event(UUID.randomUUID(), "Event 2", "Description 2",
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1),
+                testOwnerId, createdAt.plusMinutes(1), EventStatus.PUBLISHED);
+        when(eventRepository.findFirstPage(Limit.of(2))).thenReturn(Arrays.asList(summary(event1), summary(event2)));
+
+        // Act
+        CursorPage<EventSummary> result = eventService.getEventsPage(null, 1);
+
+        // Assert
+        assertEquals(List.of(summary(event1)), result.items());
+        assertEquals(new Cursor(createdAt, event1.getId()), Cursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void getEventsPage_WithCursor_ShouldContinueAfterCursor() {
+        // Arrange
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 1, 1, 12, 0), UUID.randomUUID());
+        when(eventRepository.findPageAfter(cursor.createdAt(), cursor.id(), Limit.of(21)))
+                .thenReturn(List.of(summary(testEvent)));
+
+        // Act
+        CursorPage<EventSummary> result = eventService.getEventsPage(cursor.encode(), 20);
+
+        // Assert
+        assertEquals(List.of(summary(testEvent)), result.items());
+        assertNull(result.nextCursor());
+        verify(eventRepository, never()).findFirstPage(any());
+    }
+
+    @Test
+    void getEventsPage_WithMalformedCursor_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventsPage("not-a-cursor", 20));
+    }
+
+    @Test
+    void exportEvents_ShouldPassEachEventAndDetachIt() {
+        // Arrange
+        Event event2 = new Event(UUID.randomUUID(), "Event 2", "Description 2",
+                LocalDateTime.now(), LocalDateTime.now().plusHours(1),
+                testOwnerId, LocalDateTime.now(), EventStatus.DRAFT);
+        when(eventRepository.streamAll()).thenReturn(Stream.of(testEvent, event2));
+        List<Event> exported = new ArrayList<>();
+
+        // Act
+        eventService.exportEvents(exported::add);
+
+        // Assert
+        assertEquals(List.of(testEvent, event2), exported);
+        verify(entityManager).detach(testEvent);
+        verify(entityManager).detach(event2);
+    }
+
     @Test
     void createEvent_ShouldSaveAndReturnEvent() {
         // Arrange
@@ -155,6 +337,111 @@ class EventServiceTest {
         assertEquals(savedEvent.getId(), result.getId());
         assertEquals(savedEvent.getTitle(), result.getTitle());
         verify(eventRepository, times(1)).save(any(Event.class));
+        verify(userDataVersions).bump(UserDataVersions.Kind.EVENTS, testOwnerId);
+    }
+
+    @Test
+    void createEvent_WithRecurrenceRule_ShouldNormalizeRuleAndComputeSeriesEnd() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 10, 0);
+        Event newEvent = new Event(null, "Daily", "Description", start, start.plusHours(1),
+                testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        newEvent.setRecurrenceRule("rrule:freq=daily;interval=2;count=3");
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Event result = eventService.createEvent(newEvent);
+
+        // Assert
+        assertEquals("FREQ=DAILY;INTERVAL=2;COUNT=3", result.getRecurrenceRule());
+        assertEquals(LocalDateTime.of(2025, 1, 5, 11, 0), result.getSeriesEnd());
+    }
+
+    @Test
+    void createEvent_WithoutRecurrenceRule_ShouldUseEndTimeAsSeriesEnd() {
+        // Arrange
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Event result = eventService.createEvent(testEvent);
+
+        // Assert
+        assertNull(result.getRecurrenceRule());
+        assertEquals(testEvent.getEndTime(), result.getSeriesEnd());
+    }
+
+    @Test
+    void createEvent_WithInvalidRecurrenceRule_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        testEvent.setRecurrenceRule("FREQ=YEARLY");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> eventService.createEvent(testEvent));
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    void createEvent_WithConflictCheck_WhenOverlapping_ShouldThrowAndNotSave() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 5, 5, 10, 0);
+        Event newEvent = new Event(null, "New", "Description", start, start.plusHours(1),
+                testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        Event owned = new Event(UUID.randomUUID(), "Owned", "Description", start.plusMinutes(30),
+                start.plusHours(2), testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        // Ежедневная серия чужого события, приглашение на которое принято
+        Event accepted = new Event(UUID.randomUUID(), "Accepted", "Description",
+                LocalDateTime.of(2025, 5, 1, 9, 45), LocalDateTime.of(2025, 5, 1, 10, 15),
+                UUID.randomUUID(), LocalDateTime.now(), EventStatus.PUBLISHED);
+        accepted.setRecurrenceRule("FREQ=DAILY");
+        when(eventRepository.findBusy(List.of(testOwnerId), start, start.plusHours(1))).thenReturn(List.of(owned));
+        when(eventRepository.findAcceptedBusy(testOwnerId, start, start.plusHours(1))).thenReturn(List.of(accepted));
+
+        // Act
+        EventConflictException exception = assertThrows(EventConflictException.class,
+                () -> eventService.createEvent(newEvent, true));
+
+        // Assert
+        List<EventOccurrence> conflicts = exception.getConflicts();
+        assertEquals(2, conflicts.size());
+        assertSame(accepted, conflicts.get(0).event());
+        assertEquals(LocalDateTime.of(2025, 5, 5, 9, 45), conflicts.get(0).startTime());
+        assertSame(owned, conflicts.get(1).event());
+        verify(eventRepository, never()).save(any(Event.class));
+    }
+
+    @Test
+    void createEvent_WithConflictCheck_WhenOnlyAdjacentEvents_ShouldSave() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2025, 5, 5, 10, 0);
+        Event newEvent = new Event(null, "New", "Description", start, start.plusHours(1),
+                testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        Event before = new Event(UUID.randomUUID(), "Before", "Description", start.minusHours(1), start,
+                testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        when(eventRepository.findBusy(any(), any(), any())).thenReturn(List.of(before));
+        when(eventRepository.findAcceptedBusy(any(), any(), any())).thenReturn(List.of());
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Event result = eventService.createEvent(newEvent, true);
+
+        // Assert
+        assertSame(newEvent, result);
+        verify(eventRepository, times(1)).save(newEvent);
+    }
+
+    @Test
+    void findConflicts_ShouldIgnoreExcludedEvent() {
+        // Arrange
+        Event updated = new Event(null, "Updated", "Description", testEvent.getStartTime(),
+                testEvent.getEndTime(), testOwnerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        when(eventRepository.findBusy(any(), any(), any())).thenReturn(List.of(testEvent));
+        when(eventRepository.findAcceptedBusy(any(), any(), any())).thenReturn(List.of());
+
+        // Act
+        List<EventOccurrence> result = eventService.findConflicts(updated, testEventId);
+
+        // Assert
+        assertTrue(result.isEmpty());
     }
 
     @Test
@@ -215,6 +502,26 @@ class EventServiceTest {
         // Assert
         verify(eventRepository, times(1)).deleteById(eventId);
     }
-}
 
+    @Test
+    void deleteEvent_ShouldBumpOwnerEventsAndInviteeInvitations() {
+        // Arrange
+        UUID inviteeId = UUID.randomUUID();
+        when(eventRepository.findById(testEventId)).thenReturn(Optional.of(testEvent));
+        when(eventRepository.findInviteeIds(testEventId)).thenReturn(List.of(inviteeId));
 
+        // Act
+        eventService.deleteEvent(testEventId);
+
+        // Assert
+        verify(eventRepository).deleteById(testEventId);
+        verify(userDataVersions).bump(UserDataVersions.Kind.EVENTS, testOwnerId);
+        verify(userDataVersions).bump(UserDataVersions.Kind.INVITATIONS, inviteeId);
+    }
+
+    private static EventSummary summary(Event event) {
+        return new EventSummary(event.getId(), event.getTitle(), event.getStartTime(), event.getEndTime(),
+                event.getOwnerId(), event.getCreatedAt(), event.getStatus(), event.getRecurrenceRule(),
+                event.getRecurrenceExceptions());
+    }
+}
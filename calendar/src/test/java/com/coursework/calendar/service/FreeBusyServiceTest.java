@@ -0,0 +1,148 @@
+package com.coursework.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.event.EventStatus;
+import com.coursework.calendar.repository.EventRepository;
+import com.coursework.calendar.scheduling.FreeBusy;
+import com.coursework.calendar.scheduling.TimeInterval;
+
+@ExtendWith(MockitoExtension.class)
+class FreeBusyServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private FreeBusyService freeBusyService;
+
+    private UUID aliceId;
+    private UUID bobId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+
+    @BeforeEach
+    void setUp() {
+        aliceId = UUID.randomUUID();
+        bobId = UUID.randomUUID();
+        from = LocalDateTime.of(2025, 1, 10, 9, 0);
+        to = LocalDateTime.of(2025, 1, 10, 18, 0);
+    }
+
+    private Event event(UUID ownerId, int startHour, int startMinute, int endHour, int endMinute) {
+        return new Event(UUID.randomUUID(), "Event", "Description",
+                LocalDateTime.of(2025, 1, 10, startHour, startMinute), LocalDateTime.of(2025, 1, 10, endHour, endMinute),
+                ownerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+    }
+
+    private TimeInterval interval(int startHour, int startMinute, int endHour, int endMinute) {
+        return new TimeInterval(LocalDateTime.of(2025, 1, 10, startHour, startMinute),
+                LocalDateTime.of(2025, 1, 10, endHour, endMinute));
+    }
+
+    @Test
+    void getFreeBusy_ShouldMergeIntervalsPerUserAndFindCommonFreeSlots() {
+        // Arrange
+        when(eventRepository.findBusy(any(), eq(from), eq(to))).thenReturn(List.of(
+                event(aliceId, 8, 0, 10, 0),
+                event(aliceId, 9, 30, 11, 0),
+                event(aliceId, 11, 0, 12, 0),
+                event(bobId, 13, 0, 14, 0),
+                event(bobId, 17, 30, 19, 0)));
+
+        // Act
+        FreeBusy result = freeBusyService.getFreeBusy(List.of(aliceId, bobId), from, to);
+
+        // Assert
+        assertEquals(List.of(interval(9, 0, 12, 0)), result.busy().get(aliceId));
+        assertEquals(List.of(interval(13, 0, 14, 0), interval(17, 30, 18, 0)), result.busy().get(bobId));
+        assertEquals(List.of(interval(12, 0, 13, 0), interval(14, 0, 17, 30)), result.free());
+        verify(eventRepository, times(1)).findBusy(any(), eq(from), eq(to));
+    }
+
+    @Test
+    void getFreeBusy_ShouldCountEventsWithAcceptedInvitation() {
+        // Arrange
+        Event bobsMeeting = event(bobId, 10, 0, 11, 0);
+        when(eventRepository.findBusy(any(), eq(from), eq(to))).thenReturn(List.of(bobsMeeting));
+        when(eventRepository.findAcceptedBusyByUsers(any(), eq(from), eq(to)))
+                .thenReturn(List.of(new EventRepository.AcceptedEvent(aliceId, bobsMeeting)));
+
+        // Act
+        FreeBusy result = freeBusyService.getFreeBusy(List.of(aliceId, bobId), from, to);
+
+        // Assert
+        assertEquals(List.of(interval(10, 0, 11, 0)), result.busy().get(aliceId));
+        assertEquals(List.of(interval(10, 0, 11, 0)), result.busy().get(bobId));
+        assertEquals(List.of(interval(9, 0, 10, 0), interval(11, 0, 18, 0)), result.free());
+    }
+
+    @Test
+    void getFreeBusy_WhenUserHasNoEvents_ShouldReturnEmptyBusyAndWholeWindowFree() {
+        // Arrange
+        when(eventRepository.findBusy(any(), eq(from), eq(to))).thenReturn(List.of());
+
+        // Act
+        FreeBusy result = freeBusyService.getFreeBusy(List.of(aliceId, aliceId), from, to);
+
+        // Assert
+        assertEquals(1, result.busy().size());
+        assertTrue(result.busy().get(aliceId).isEmpty());
+        assertEquals(List.of(new TimeInterval(from, to)), result.free());
+    }
+
+    @Test
+    void getFreeBusy_WithDailySeries_ShouldCountOccurrenceInsideWindow() {
+        // Arrange
+        Event series = new Event(UUID.randomUUID(), "Standup", "Description",
+                LocalDateTime.of(2025, 1, 1, 10, 0), LocalDateTime.of(2025, 1, 1, 10, 30),
+                aliceId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        series.setRecurrenceRule("FREQ=DAILY");
+        when(eventRepository.findBusy(any(), eq(from), eq(to))).thenReturn(List.of(series));
+
+        // Act
+        FreeBusy result = freeBusyService.getFreeBusy(List.of(aliceId), from, to);
+
+        // Assert
+        assertEquals(List.of(interval(10, 0, 10, 30)), result.busy().get(aliceId));
+        assertEquals(List.of(interval(9, 0, 10, 0), interval(10, 30, 18, 0)), result.free());
+    }
+
+    @Test
+    void getFreeBusy_WithInvalidWindow_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> freeBusyService.getFreeBusy(List.of(aliceId), to, from));
+        verify(eventRepository, never()).findBusy(any(), any(), any());
+    }
+
+    @Test
+    void getFreeBusy_WithTooWideWindow_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> freeBusyService.getFreeBusy(List.of(aliceId), from, from.plusYears(5)));
+        verify(eventRepository, never()).findBusy(any(), any(), any());
+        verify(eventRepository, never()).findAcceptedBusyByUsers(any(), any(), any());
+    }
+
+    @Test
+    void getFreeBusy_WithoutUsers_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> freeBusyService.getFreeBusy(List.of(), from, to));
+    }
+}
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -16,10 +18,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import com.coursework.calendar.entities.event.Event;
+import com.coursework.calendar.entities.event.EventStatus;
 import com.coursework.calendar.entities.invitation.Invitation;
 import com.coursework.calendar.entities.invitation.InvitationStatus;
+import com.coursework.calendar.pagination.CursorPage;
+import com.coursework.calendar.repository.EventRepository;
 import com.coursework.calendar.repository.InvitationRepository;
+import com.coursework.calendar.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 class InvitationServiceTest {
@@ -27,6 +37,18 @@ class InvitationServiceTest {
     @Mock
     private InvitationRepository invitationRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDataVersions userDataVersions;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private InvitationService invitationService;
 
@@ -45,7 +67,7 @@ class InvitationServiceTest {
     }
 
     @Test
-    void getAllInvitations_ShouldReturnListOfInvitations() {
+    void getAllInvitations_ShouldReturnFirstPage() {
         // Arrange
         Invitation invitation1 = new Invitation(UUID.randomUUID(), UUID.randomUUID(), 
                 UUID.randomUUID(), LocalDateTime.now(), InvitationStatus.PENDING);
@@ -53,7 +75,7 @@ class InvitationServiceTest {
                 UUID.randomUUID(), LocalDateTime.now(), InvitationStatus.ACCEPTED);
         List<Invitation> expectedInvitations = Arrays.asList(invitation1, invitation2);
 
-        when(invitationRepository.findAll()).thenReturn(expectedInvitations);
+        when(invitationRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE))).thenReturn(expectedInvitations);
 
         // Act
         List<Invitation> result = invitationService.getAllInvitations();
@@ -62,7 +84,7 @@ class InvitationServiceTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(expectedInvitations, result);
-        verify(invitationRepository, times(1)).findAll();
+        verify(invitationRepository, never()).findAll();
     }
 
     @Test
@@ -141,7 +163,7 @@ class InvitationServiceTest {
         Invitation savedInvitation = new Invitation(UUID.randomUUID(), testEventId, testUserId, 
                 LocalDateTime.now(), InvitationStatus.PENDING);
 
-        when(invitationRepository.save(any(Invitation.class))).thenReturn(savedInvitation);
+        when(invitationRepository.saveAndFlush(any(Invitation.class))).thenReturn(savedInvitation);
 
         // Act
         Invitation result = invitationService.createInvitation(newInvitation);
@@ -151,7 +173,23 @@ class InvitationServiceTest {
         assertEquals(savedInvitation.getId(), result.getId());
         assertEquals(savedInvitation.getEventId(), result.getEventId());
         assertEquals(savedInvitation.getUserId(), result.getUserId());
-        verify(invitationRepository, times(1)).save(any(Invitation.class));
+        verify(invitationRepository, times(1)).saveAndFlush(any(Invitation.class));
+        verify(userDataVersions).bump(UserDataVersions.Kind.INVITATIONS, testUserId);
+    }
+
+    @Test
+    void createInvitation_WhenAlreadyInvited_ShouldThrowIllegalStateException() {
+        // Arrange
+        Invitation newInvitation = new Invitation(null, testEventId, testUserId,
+                LocalDateTime.now(), InvitationStatus.PENDING);
+        when(invitationRepository.saveAndFlush(any(Invitation.class))).thenThrow(eventUserViolation());
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> invitationService.createInvitation(newInvitation));
+
+        assertEquals("User is already invited to this event", exception.getMessage());
+        verify(userDataVersions, never()).bump(any(), any());
     }
 
     @Test
@@ -175,6 +213,27 @@ class InvitationServiceTest {
         verify(invitationRepository, times(1)).save(any(Invitation.class));
     }
 
+    @Test
+    void updateInvitation_ShouldNotifyInviteeAndEventOwner() {
+        // Arrange
+        UUID ownerId = UUID.randomUUID();
+        Event event = new Event(testEventId, "Event", null, LocalDateTime.now(), LocalDateTime.now().plusHours(1),
+                ownerId, LocalDateTime.now(), EventStatus.PUBLISHED);
+        Invitation updateData = new Invitation(null, testEventId, testUserId,
+                LocalDateTime.now(), InvitationStatus.ACCEPTED);
+
+        when(invitationRepository.findById(testInvitationId)).thenReturn(Optional.of(testInvitation));
+        when(invitationRepository.save(any(Invitation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventRepository.findById(testEventId)).thenReturn(Optional.of(event));
+
+        // Act
+        invitationService.updateInvitation(testInvitationId, updateData);
+
+        // Assert
+        verify(eventPublisher).publishEvent(new ChangeNotification(ChangeNotification.Type.INVITATION,
+                testInvitationId, "ACCEPTED", Set.of(testUserId, ownerId)));
+    }
+
     @Test
     void updateInvitation_WhenInvitationNotExists_ShouldThrowRuntimeException() {
         // Arrange
@@ -205,6 +264,111 @@ class InvitationServiceTest {
         // Assert
         verify(invitationRepository, times(1)).deleteById(invitationId);
     }
-}
 
+    @Test
+    void deleteInvitation_WhenInvitationExists_ShouldDeleteAndBumpUserInvitations() {
+        // Arrange
+        when(invitationRepository.findById(testInvitationId)).thenReturn(Optional.of(testInvitation));
+
+        // Act
+        invitationService.deleteInvitation(testInvitationId);
+
+        // Assert
+        verify(invitationRepository).deleteById(testInvitationId);
+        verify(userDataVersions).bump(UserDataVersions.Kind.INVITATIONS, testUserId);
+    }
+
+    @Test
+    void deleteInvitation_WhenInvitationMissing_ShouldStillDeleteWithoutBump() {
+        // Arrange
+        when(invitationRepository.findById(testInvitationId)).thenReturn(Optional.empty());
+
+        // Act
+        invitationService.deleteInvitation(testInvitationId);
+
+        // Assert
+        verify(invitationRepository).deleteById(testInvitationId);
+        verify(userDataVersions, never()).bump(any(), any());
+    }
+
+    @Test
+    void createInvitations_ShouldSkipInvitedAndUnknownUsersAndSaveRestInOneCall() {
+        // Arrange
+        UUID invitedUserId = UUID.randomUUID();
+        UUID unknownUserId = UUID.randomUUID();
+        UUID newUserId = UUID.randomUUID();
+        List<UUID> userIds = List.of(invitedUserId, unknownUserId, newUserId, newUserId);
+        when(eventRepository.existsById(testEventId)).thenReturn(true);
+        when(userRepository.findExistingIds(any())).thenReturn(List.of(invitedUserId, newUserId));
+        when(invitationRepository.findInvitedUserIds(eq(testEventId), any())).thenReturn(List.of(invitedUserId));
+
+        // Act
+        List<InvitationBatchResult> result = invitationService.createInvitations(testEventId, userIds,
+                InvitationStatus.PENDING);
+
+        // Assert
+        assertEquals(3, result.size());
+        assertEquals(InvitationBatchResult.Outcome.ALREADY_INVITED, result.get(0).outcome());
+        assertEquals(InvitationBatchResult.Outcome.USER_NOT_FOUND, result.get(1).outcome());
+        assertEquals(InvitationBatchResult.Outcome.CREATED, result.get(2).outcome());
+        Invitation created = result.get(2).invitation();
+        assertNull(created.getId());
+        assertEquals(testEventId, created.getEventId());
+        assertEquals(newUserId, created.getUserId());
+        verify(invitationRepository, times(1)).saveAllAndFlush(List.of(created));
+        verify(invitationRepository, never()).save(any(Invitation.class));
+    }
 
+    @Test
+    void createInvitations_WhenConcurrentBatchInvitedSameUser_ShouldThrowIllegalStateException() {
+        // Arrange
+        when(eventRepository.existsById(testEventId)).thenReturn(true);
+        when(userRepository.findExistingIds(any())).thenReturn(List.of(testUserId));
+        when(invitationRepository.findInvitedUserIds(eq(testEventId), any())).thenReturn(List.of());
+        when(invitationRepository.saveAllAndFlush(any())).thenThrow(eventUserViolation());
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> invitationService.createInvitations(testEventId,
+                List.of(testUserId), InvitationStatus.PENDING));
+        verify(userDataVersions, never()).bump(any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void createInvitations_WhenOtherConstraintViolated_ShouldRethrow() {
+        // Arrange
+        when(eventRepository.existsById(testEventId)).thenReturn(true);
+        when(userRepository.findExistingIds(any())).thenReturn(List.of(testUserId));
+        when(invitationRepository.findInvitedUserIds(eq(testEventId), any())).thenReturn(List.of());
+        when(invitationRepository.saveAllAndFlush(any())).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement",
+                new SQLException("insert or update on table \"invitations\" violates foreign key constraint \"fk_invitations_event\"")));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> invitationService.createInvitations(testEventId,
+                List.of(testUserId), InvitationStatus.PENDING));
+    }
+
+    @Test
+    void createInvitations_WhenEventDoesNotExist_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        when(eventRepository.existsById(testEventId)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> invitationService.createInvitations(testEventId,
+                List.of(testUserId), InvitationStatus.PENDING));
+        verify(invitationRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void createInvitations_WithEmptyList_ShouldThrowIllegalArgumentException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> invitationService.createInvitations(testEventId,
+                List.of(), InvitationStatus.PENDING));
+    }
+
+    private static DataIntegrityViolationException eventUserViolation() {
+        return new DataIntegrityViolationException("could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"uq_invitations_event_user\""));
+    }
+}
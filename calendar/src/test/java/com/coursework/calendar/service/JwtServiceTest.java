@@ -8,29 +8,33 @@ import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
 
 import com.coursework.calendar.entities.user.User;
 import com.coursework.calendar.entities.user.UserRole;
 
-@ExtendWith(MockitoExtension.class)
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.JwtException;
+
 class JwtServiceTest {
 
-    @InjectMocks
     private JwtService jwtService;
+    private SimpleMeterRegistry meterRegistry;
 
     private User testUser;
     private String testSecret;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         testSecret = "test-secret-key-for-jwt-token-generation-minimum-32-characters-long";
-        ReflectionTestUtils.setField(jwtService, "secret", testSecret);
-        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", 900000L); // 15 minutes
-        ReflectionTestUtils.setField(jwtService, "refreshTokenExpiration", 604800000L); // 7 days
+        jwtService = new JwtService(testSecret,
+                900000L, // 15 minutes
+                604800000L, // 7 days
+                1000L,
+                300000L,
+                meterRegistry);
+        jwtService.monitorClaimsCache(meterRegistry);
 
         UUID userId = UUID.randomUUID();
         testUser = new User(userId, "testuser", "test@example.com", LocalDateTime.now(), "password123", UserRole.USER);
@@ -187,7 +191,7 @@ class JwtServiceTest {
     @Test
     void generateAccessToken_WithShortSecret_ShouldStillWork() {
         // Arrange
-        ReflectionTestUtils.setField(jwtService, "secret", "short");
+        jwtService = new JwtService("short", 900000L, 604800000L, 1000L, 300000L, meterRegistry);
         User user = new User(UUID.randomUUID(), "user", "user@example.com", LocalDateTime.now(), "pass", UserRole.USER);
 
         // Act
@@ -201,7 +205,7 @@ class JwtServiceTest {
     @Test
     void generateAccessToken_WithEmptySecret_ShouldUseDefault() {
         // Arrange
-        ReflectionTestUtils.setField(jwtService, "secret", "");
+        jwtService = new JwtService("", 900000L, 604800000L, 1000L, 300000L, meterRegistry);
         User user = new User(UUID.randomUUID(), "user", "user@example.com", LocalDateTime.now(), "pass", UserRole.USER);
 
         // Act
@@ -235,6 +239,68 @@ class JwtServiceTest {
         // Assert
         assertEquals(testUser.getId(), userId);
     }
-}
 
+    @Test
+    void extractAllClaims_WhenCalledTwice_ShouldReturnCachedClaims() {
+        // Arrange
+        String token = jwtService.generateAccessToken(testUser);
+
+        // Act
+        Claims first = jwtService.extractAllClaims(token);
+        Claims second = jwtService.extractAllClaims(token);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(testUser.getEmail(), first.getSubject());
+    }
+
+    @Test
+    void extractAllClaims_ShouldRecordVerificationOnlyOnCacheMiss() {
+        // Arrange
+        String token = jwtService.generateAccessToken(testUser);
 
+        // Act
+        jwtService.extractAllClaims(token);
+        jwtService.extractAllClaims(token);
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(token + "x"));
+
+        // Assert
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("result", "valid").timer().count());
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("result", "invalid").timer().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(2, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void extractAllClaims_WhenSignatureIsTampered_ShouldThrowJwtException() {
+        // Arrange
+        String token = jwtService.generateAccessToken(testUser);
+        jwtService.extractAllClaims(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(tampered));
+    }
+
+    @Test
+    void validateToken_WithClaims_ShouldCheckSubject() {
+        // Arrange
+        Claims claims = jwtService.extractAllClaims(jwtService.generateAccessToken(testUser));
+
+        // Act & Assert
+        assertTrue(jwtService.validateToken(claims, testUser.getEmail()));
+        assertFalse(jwtService.validateToken(claims, "wrong@example.com"));
+    }
+
+    @Test
+    void extractAllClaims_WhenTokenSignedWithAnotherKey_ShouldThrowJwtException() {
+        // Arrange
+        JwtService otherService = new JwtService("another-secret-key-for-jwt-token-generation-32-chars", 900000L,
+                604800000L, 1000L, 300000L, meterRegistry);
+        String foreignToken = otherService.generateAccessToken(testUser);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(foreignToken));
+    }
+}
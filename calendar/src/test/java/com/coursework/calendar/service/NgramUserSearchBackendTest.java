@@ -0,0 +1,153 @@
+package com.coursework.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class NgramUserSearchBackendTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private NgramUserSearchBackend backend;
+
+    private UserSummary alice;
+    private UserSummary alicia;
+    private UserSummary bob;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        alice = new UserSummary(UUID.randomUUID(), "alice@example.com", "alice", now, UserRole.USER);
+        alicia = new UserSummary(UUID.randomUUID(), "a.keys@mail.org", "alicia", now.plusSeconds(1), UserRole.USER);
+        bob = new UserSummary(UUID.randomUUID(), "bob@example.com", "bob", now.plusSeconds(2), UserRole.USER);
+        List.of(alice, alicia, bob).forEach(backend::put);
+    }
+
+    @Test
+    void search_ShouldRankBySimilarity() {
+        // Arrange
+        when(userRepository.findSummariesByIds(List.of(alice.id(), alicia.id()))).thenReturn(List.of(alicia, alice));
+
+        // Act
+        Slice<UserSummary> result = backend.search("Alic", null, PageRequest.of(0, 20));
+
+        // Assert
+        assertEquals(List.of(alice, alicia), result.getContent());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void search_ShouldMatchEmailSubstring() {
+        // Arrange
+        when(userRepository.findSummariesByIds(List.of(bob.id(), alice.id()))).thenReturn(List.of(alice, bob));
+
+        // Act
+        Slice<UserSummary> result = backend.search("example", null, PageRequest.of(0, 20));
+
+        // Assert
+        assertEquals(List.of(bob, alice), result.getContent());
+    }
+
+    @Test
+    void search_WithShortQuery_ShouldMatchPrefixOnly() {
+        // Arrange
+        when(userRepository.findSummariesByIds(List.of(bob.id()))).thenReturn(List.of(bob));
+
+        // Act
+        Slice<UserSummary> result = backend.search("bo", null, PageRequest.of(0, 20));
+
+        // Assert
+        assertEquals(List.of(bob), result.getContent());
+    }
+
+    @Test
+    void search_ShouldExcludeUserAndPaginate() {
+        // Arrange
+        when(userRepository.findSummariesByIds(List.of(bob.id()))).thenReturn(List.of(bob));
+
+        // Act
+        Slice<UserSummary> result = backend.search("example.com", alice.id(), PageRequest.of(0, 1));
+
+        // Assert
+        assertEquals(List.of(bob), result.getContent());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void search_WhenMoreMatchesThanPageSize_ShouldReportNextPage() {
+        // Arrange
+        when(userRepository.findSummariesByIds(List.of(bob.id()))).thenReturn(List.of(bob));
+        when(userRepository.findSummariesByIds(List.of(alice.id()))).thenReturn(List.of(alice));
+
+        // Act
+        Slice<UserSummary> first = backend.search("example.com", null, PageRequest.of(0, 1));
+        Slice<UserSummary> second = backend.search("example.com", null, PageRequest.of(1, 1));
+
+        // Assert
+        assertEquals(List.of(bob), first.getContent());
+        assertTrue(first.hasNext());
+        assertEquals(List.of(alice), second.getContent());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void search_ShouldSkipUsersBelowSimilarityThreshold() {
+        // Act
+        Slice<UserSummary> result = backend.search("lic", null, PageRequest.of(0, 20));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(userRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    void search_WhenNothingMatches_ShouldReturnEmptyPageWithoutLoadingUsers() {
+        // Act
+        Slice<UserSummary> result = backend.search("zzz", null, PageRequest.of(0, 20));
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(userRepository, never()).findSummariesByIds(any());
+    }
+
+    @Test
+    void onUserChanged_ShouldUpdateIndex() {
+        // Arrange
+        User carol = new User(UUID.randomUUID(), "carol", "carol@example.com", LocalDateTime.now(), "hash",
+                UserRole.USER);
+        UserSummary carolSummary = new UserSummary(carol.getId(), carol.getEmail(), carol.getUsername(),
+                carol.getCreatedAt(), carol.getRole());
+        when(userRepository.findSummariesByIds(List.of(carol.getId()))).thenReturn(List.of(carolSummary));
+
+        // Act
+        backend.onUserChanged(UserChangedEvent.saved(carol));
+        backend.onUserChanged(UserChangedEvent.deleted(bob.id()));
+        Slice<UserSummary> added = backend.search("carol", null, PageRequest.of(0, 20));
+        Slice<UserSummary> removed = backend.search("bob", null, PageRequest.of(0, 20));
+
+        // Assert
+        assertEquals(List.of(carolSummary), added.getContent());
+        assertTrue(removed.isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package com.coursework.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.coursework.calendar.entities.user.User;
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.search.PrefixIndex;
+
+class UserAutocompleteServiceTest {
+
+    private UserAutocompleteService userAutocompleteService;
+
+    private UserSummary anna;
+    private UserSummary andrew;
+    private UserSummary bob;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        anna = new UserSummary(UUID.randomUUID(), "anna@example.com", "Anna Smith", now, UserRole.USER);
+        andrew = new UserSummary(UUID.randomUUID(), "drew@example.com", "andrew", now.plusSeconds(1), UserRole.USER);
+        bob = new UserSummary(UUID.randomUUID(), "bob@example.com", "bob", now.plusSeconds(2), UserRole.USER);
+        userAutocompleteService = new UserAutocompleteService();
+        List.of(anna, andrew, bob).forEach(userAutocompleteService::put);
+    }
+
+    @Test
+    void complete_ShouldReturnUsersWithMatchingPrefix() {
+        // Act
+        List<PrefixIndex.Suggestion> result = userAutocompleteService.complete("An", null, 10);
+
+        // Assert
+        assertEquals(List.of(andrew.id(), anna.id()), ids(result));
+    }
+
+    @Test
+    void complete_ShouldMatchUsernameWordsAndEmail() {
+        // Act
+        List<PrefixIndex.Suggestion> byWord = userAutocompleteService.complete("smi", null, 10);
+        List<PrefixIndex.Suggestion> byEmail = userAutocompleteService.complete("drew@", null, 10);
+
+        // Assert
+        assertEquals(List.of(anna.id()), ids(byWord));
+        assertEquals(List.of(andrew.id()), ids(byEmail));
+    }
+
+    @Test
+    void complete_ShouldExcludeCurrentUserAndRespectLimit() {
+        // Act
+        List<PrefixIndex.Suggestion> excluded = userAutocompleteService.complete("an", anna.id(), 10);
+        List<PrefixIndex.Suggestion> limited = userAutocompleteService.complete("an", null, 1);
+
+        // Assert
+        assertEquals(List.of(andrew.id()), ids(excluded));
+        assertEquals(1, limited.size());
+    }
+
+    @Test
+    void onUserChanged_ShouldKeepIndexUpToDate() {
+        // Arrange
+        User renamed = new User(bob.id(), "robert", "bob@example.com", bob.createdAt(), "hash", UserRole.USER);
+
+        // Act
+        userAutocompleteService.onUserChanged(UserChangedEvent.saved(renamed));
+        userAutocompleteService.onUserChanged(UserChangedEvent.deleted(anna.id()));
+
+        // Assert
+        assertEquals(List.of(bob.id()), ids(userAutocompleteService.complete("rob", null, 10)));
+        assertEquals(List.of(bob.id()), ids(userAutocompleteService.complete("bob@", null, 10)));
+        assertTrue(userAutocompleteService.complete("bo", null, 10).stream()
+                .allMatch(suggestion -> suggestion.username().equals("robert")));
+        assertTrue(userAutocompleteService.complete("anna", null, 10).isEmpty());
+    }
+
+    private static List<UUID> ids(List<PrefixIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(PrefixIndex.Suggestion::id).toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.coursework.calendar.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class UserDataVersionsTest {
+
+    private final UserDataVersions userDataVersions = new UserDataVersions();
+
+    @Test
+    void eTag_ShouldBeStrongAndStableUntilBump() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+
+        // Act
+        String first = userDataVersions.eTag(UserDataVersions.Kind.EVENTS, userId);
+        String second = userDataVersions.eTag(UserDataVersions.Kind.EVENTS, userId);
+
+        // Assert
+        assertEquals(first, second);
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+    }
+
+    @Test
+    void bump_ShouldChangeOnlyThatUsersList() {
+        // Arrange
+        UUID userId = UUID.randomUUID();
+        UUID otherUserId = UUID.randomUUID();
+        String events = userDataVersions.eTag(UserDataVersions.Kind.EVENTS, userId);
+        String invitations = userDataVersions.eTag(UserDataVersions.Kind.INVITATIONS, userId);
+        String otherEvents = userDataVersions.eTag(UserDataVersions.Kind.EVENTS, otherUserId);
+
+        // Act
+        userDataVersions.bump(UserDataVersions.Kind.EVENTS, userId);
+
+        // Assert
+        assertNotEquals(events, userDataVersions.eTag(UserDataVersions.Kind.EVENTS, userId));
+        assertEquals(invitations, userDataVersions.eTag(UserDataVersions.Kind.INVITATIONS, userId));
+        assertEquals(otherEvents, userDataVersions.eTag(UserDataVersions.Kind.EVENTS, otherUserId));
+    }
+}
@@ -12,10 +12,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import com.coursework.calendar.config.AuthenticatedUser;
 import com.coursework.calendar.entities.user.User;
 import com.coursework.calendar.entities.user.UserRole;
 import com.coursework.calendar.repository.UserRepository;
@@ -26,6 +28,9 @@ class UserDetailsServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private UserAuthCache userAuthCache = new UserAuthCache(false, 30000L, 10000L, 900000L);
+
     @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
 
@@ -53,6 +58,8 @@ class UserDetailsServiceImplTest {
         assertEquals(testUser.getPasswordHash(), userDetails.getPassword());
         assertTrue(userDetails.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+        AuthenticatedUser authenticatedUser = assertInstanceOf(AuthenticatedUser.class, userDetails);
+        assertEquals(testUser.getId(), authenticatedUser.id());
         verify(userRepository, times(1)).findByEmail(testEmail);
     }
 
@@ -138,4 +145,36 @@ class UserDetailsServiceImplTest {
         assertTrue(userDetails2.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
     }
+
+    @Test
+    void loadUserByUsername_WhenCacheEnabled_ShouldQueryRepositoryOnce() {
+        // Arrange
+        UserDetailsServiceImpl cachedService = new UserDetailsServiceImpl(userRepository,
+                new UserAuthCache(true, 30000L, 10000L, 900000L));
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
+
+        // Act
+        UserDetails first = cachedService.loadUserByUsername(testEmail);
+        UserDetails second = cachedService.loadUserByUsername(testEmail);
+
+        // Assert
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByEmail(testEmail);
+    }
+
+    @Test
+    void loadUserByUsername_AfterEvict_ShouldReloadFromRepository() {
+        // Arrange
+        UserAuthCache cache = new UserAuthCache(true, 30000L, 10000L, 900000L);
+        UserDetailsServiceImpl cachedService = new UserDetailsServiceImpl(userRepository, cache);
+        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.of(testUser));
+        cachedService.loadUserByUsername(testEmail);
+
+        // Act
+        cache.evict(testEmail);
+        cachedService.loadUserByUsername(testEmail);
+
+        // Assert
+        verify(userRepository, times(2)).findByEmail(testEmail);
+    }
 }
@@ -0,0 +1,69 @@
+package com.coursework.calendar.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class UserIndexLoaderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserIndex firstIndex;
+
+    @Mock
+    private UserIndex secondIndex;
+
+    @Test
+    void load_ShouldScanUsersOnceAndFeedEveryIndex() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        UserSummary alice = new UserSummary(UUID.randomUUID(), "alice@example.com", "alice", now, UserRole.USER);
+        UserSummary bob = new UserSummary(UUID.randomUUID(), "bob@example.com", "bob", now.plusSeconds(1),
+                UserRole.USER);
+        when(userRepository.findFirstPage(Limit.of(1000))).thenReturn(List.of(alice));
+        when(userRepository.findPageAfter(alice.createdAt(), alice.id(), Limit.of(1000))).thenReturn(List.of(bob));
+        when(userRepository.findPageAfter(bob.createdAt(), bob.id(), Limit.of(1000))).thenReturn(List.of());
+        UserIndexLoader loader = new UserIndexLoader(userRepository, List.of(firstIndex, secondIndex));
+
+        // Act
+        loader.load();
+
+        // Assert
+        InOrder inOrder = inOrder(firstIndex, secondIndex);
+        inOrder.verify(firstIndex).put(alice);
+        inOrder.verify(secondIndex).put(alice);
+        inOrder.verify(firstIndex).put(bob);
+        inOrder.verify(secondIndex).put(bob);
+        verify(userRepository, times(1)).findFirstPage(any(Limit.class));
+        verify(userRepository, times(2)).findPageAfter(any(), any(), any(Limit.class));
+    }
+
+    @Test
+    void load_WithoutIndexes_ShouldNotQueryUsers() {
+        // Arrange
+        UserIndexLoader loader = new UserIndexLoader(userRepository, List.of());
+
+        // Act
+        loader.load();
+
+        // Assert
+        verifyNoInteractions(userRepository);
+    }
+}
@@ -13,13 +13,23 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.coursework.calendar.entities.user.User;
 import com.coursework.calendar.entities.user.UserRole;
+import com.coursework.calendar.entities.user.UserSummary;
+import com.coursework.calendar.pagination.CursorPage;
+import com.coursework.calendar.repository.EventRepository;
 import com.coursework.calendar.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +41,21 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private UserAuthCache userAuthCache;
+
+    @Mock
+    private UserSearchBackend userSearchBackend;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserDataVersions userDataVersions;
+
     @InjectMocks
     private UserService userService;
 
@@ -45,24 +70,52 @@ class UserServiceTest {
     }
 
     @Test
-    void getAllUsers_ShouldReturnListOfUsers() {
+    void getAllUsers_ShouldReturnFirstPage() {
         // Arrange
-        User user1 = new User(UUID.randomUUID(), "user1", "user1@example.com", LocalDateTime.now(), "pass1",
+        UserSummary user1 = new UserSummary(UUID.randomUUID(), "user1@example.com", "user1", LocalDateTime.now(),
                 UserRole.USER);
-        User user2 = new User(UUID.randomUUID(), "user2", "user2@example.com", LocalDateTime.now(), "pass2",
+        UserSummary user2 = new UserSummary(UUID.randomUUID(), "user2@example.com", "user2", LocalDateTime.now(),
                 UserRole.ADMIN);
-        List<User> expectedUsers = Arrays.asList(user1, user2);
+        List<UserSummary> expectedUsers = Arrays.asList(user1, user2);
 
-        when(userRepository.findAll()).thenReturn(expectedUsers);
+        when(userRepository.findFirstPage(Limit.of(CursorPage.MAX_SIZE))).thenReturn(expectedUsers);
 
         // Act
-        List<User> result = userService.getAllUsers();
+        List<UserSummary> result = userService.getAllUsers();
 
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(expectedUsers, result);
-        verify(userRepository, times(1)).findAll();
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void getUserSummaryById_WhenUserExists_ShouldMapCachedEntity() {
+        // Arrange
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+
+        // Act
+        UserSummary result = userService.getUserSummaryById(testUserId);
+
+        // Assert
+        assertEquals(new UserSummary(testUserId, testUser.getEmail(), testUser.getUsername(),
+                testUser.getCreatedAt(), testUser.getRole()), result);
+        verify(userRepository, times(1)).findById(testUserId);
+    }
+
+    @Test
+    void getUserSummaryById_WhenUserNotExists_ShouldThrowRuntimeException() {
+        // Arrange
+        UUID nonExistentId = UUID.randomUUID();
+        when(userRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            userService.getUserSummaryById(nonExistentId);
+        });
+
+        assertEquals("User not found", exception.getMessage());
     }
 
     @Test
@@ -149,6 +202,7 @@ class UserServiceTest {
         verify(userRepository, times(1)).existsByEmail(newUser.getEmail());
         verify(passwordEncoder, times(1)).encode(originalPassword);
         verify(userRepository, times(1)).save(any(User.class));
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.saved(savedUser));
     }
 
     @Test
@@ -194,6 +248,21 @@ class UserServiceTest {
         verify(userRepository, times(1)).findById(testUserId);
         verify(passwordEncoder, times(1)).encode(updateData.getPasswordHash());
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userAuthCache, times(1)).evict("test@example.com");
+    }
+
+    @Test
+    void updateUser_WhenOnlyUsernameChanges_ShouldNotEvictAuthCache() {
+        // Arrange
+        User updateData = new User(null, "renamed", "test@example.com", LocalDateTime.now(), null, UserRole.USER);
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        // Act
+        userService.updateUser(testUserId, updateData);
+
+        // Assert
+        verify(userAuthCache, never()).evict(anyString());
     }
 
     @Test
@@ -271,4 +340,54 @@ class UserServiceTest {
         // Assert
         verify(userRepository, times(1)).deleteById(userId);
     }
+
+    @Test
+    void deleteUser_WhenUserExists_ShouldEvictAuthCache() {
+        // Arrange
+        when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
+
+        // Act
+        userService.deleteUser(testUserId);
+
+        // Assert
+        verify(userAuthCache, times(1)).evict(testUser.getEmail());
+        verify(userRepository, times(1)).deleteById(testUserId);
+        verify(eventPublisher, times(1)).publishEvent(UserChangedEvent.deleted(testUserId));
+    }
+
+    @Test
+    void deleteUser_ShouldBumpUserListsAndInviteeInvitationsFoundBeforeDelete() {
+        // Arrange
+        UUID inviteeId = UUID.randomUUID();
+        when(eventRepository.findInviteeIdsByOwnerId(testUserId)).thenReturn(List.of(inviteeId));
+
+        // Act
+        userService.deleteUser(testUserId);
+
+        // Assert
+        InOrder inOrder = inOrder(eventRepository, userRepository);
+        inOrder.verify(eventRepository).findInviteeIdsByOwnerId(testUserId);
+        inOrder.verify(userRepository).deleteById(testUserId);
+        verify(userDataVersions).bump(UserDataVersions.Kind.EVENTS, testUserId);
+        verify(userDataVersions).bump(UserDataVersions.Kind.INVITATIONS, testUserId);
+        verify(userDataVersions).bump(UserDataVersions.Kind.INVITATIONS, inviteeId);
+        verify(userDataVersions, never()).bump(UserDataVersions.Kind.EVENTS, inviteeId);
+    }
+
+    @Test
+    void searchUsers_ShouldDelegateToSearchBackend() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 20);
+        Slice<UserSummary> expected = new SliceImpl<>(List.of(new UserSummary(testUserId, testUser.getEmail(),
+                testUser.getUsername(), testUser.getCreatedAt(), testUser.getRole())), pageable, false);
+        UUID currentUserId = UUID.randomUUID();
+        when(userSearchBackend.search("test", currentUserId, pageable)).thenReturn(expected);
+
+        // Act
+        Slice<UserSummary> result = userService.searchUsers("test", currentUserId, pageable);
+
+        // Assert
+        assertEquals(expected, result);
+        verify(userSearchBackend, times(1)).search("test", currentUserId, pageable);
+    }
 }
@@ -1,5 +1,10 @@
 import { apiClient } from '@/shared/api';
-import type { ContactRequest, ContactRequestResponse } from '../model/types';
+import type {
+  ContactRequest,
+  ContactRequestResponse,
+  ContactRequestStatus,
+  ContactRequestPage,
+} from '../model/types';
 
 const contactApi = {
   getContacts: async () => {
@@ -14,6 +19,22 @@ const contactApi = {
     const response = await apiClient.get<ContactRequestResponse[]>(`/contacts/user/${userId}`);
     return response;
   },
+  getUserContactsPage: async (
+    userId: string,
+    params: { page: number; size?: number; status?: ContactRequestStatus[] },
+  ) => {
+    const query = new URLSearchParams({ page: String(params.page) });
+    if (params.size) query.set('size', String(params.size));
+    params.status?.forEach((status) => query.append('status', status));
+    const response = await apiClient.get<ContactRequestPage>(
+      `/contacts/user/${userId}?${query.toString()}`,
+    );
+    return response;
+  },
+  getContactIds: async (userId: string) => {
+    const response = await apiClient.get<string[]>(`/contacts/user/${userId}/accepted`);
+    return response;
+  },
   createContact: async (contact: ContactRequest) => {
     const response = await apiClient.post('/contacts', contact);
     return response;
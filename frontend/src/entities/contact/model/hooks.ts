@@ -18,6 +18,14 @@ const useUserContacts = (userId: string) => {
   });
 };
 
+const useContactIds = (userId: string) => {
+  return useQuery({
+    queryKey: ['userContacts', userId, 'accepted'],
+    queryFn: () => contactApi.getContactIds(userId),
+    enabled: !!userId,
+  });
+};
+
 const useCreateContact = () => {
   return useMutation({
     mutationFn: (contact: ContactRequest) => contactApi.createContact(contact),
@@ -55,6 +63,7 @@ export {
   useContacts,
   useContact,
   useUserContacts,
+  useContactIds,
   useCreateContact,
   useUpdateContact,
   useDeleteContact,
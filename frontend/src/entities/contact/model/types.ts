@@ -27,6 +27,15 @@ interface ContactRequestResponse {
   status: ContactRequestStatus;
 }
 
-export type { ContactRequest, ContactRequestResponse };
+interface ContactRequestPage {
+  content: ContactRequestResponse[];
+  number: number;
+  size: number;
+  numberOfElements: number;
+  first: boolean;
+  last: boolean;
+}
+
+export type { ContactRequest, ContactRequestResponse, ContactRequestPage };
 
 export { ContactRequestStatusData, ContactRequestStatus };
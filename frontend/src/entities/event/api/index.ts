@@ -1,9 +1,15 @@
 import { apiClient } from '@/shared/api';
-import type { EventRequest, EventResponse } from '../model/types';
+import type {
+  EventRequest,
+  EventResponse,
+  EventSummaryResponse,
+  FreeBusyRequest,
+  FreeBusyResponse,
+} from '../model/types';
 
 const eventApi = {
   getEvents: async () => {
-    const response = await apiClient.get<EventResponse[]>('/events');
+    const response = await apiClient.get<EventSummaryResponse[]>('/events');
     return response;
   },
   getEventById: async (id: string) => {
@@ -11,7 +17,21 @@ const eventApi = {
     return response;
   },
   getUserEvents: async (userId: string) => {
-    const response = await apiClient.get<EventResponse[]>(`/events/user/${userId}`);
+    const response = await apiClient.get<EventSummaryResponse[]>(`/events/user/${userId}`);
+    return response;
+  },
+  getUserEventsInRange: async (ownerId: string, from: string, to: string) => {
+    const params = new URLSearchParams({ ownerId, from, to });
+    const response = await apiClient.get<EventSummaryResponse[]>(`/events?${params.toString()}`);
+    return response;
+  },
+  getFreeBusy: async (request: FreeBusyRequest) => {
+    const response = await apiClient.post<FreeBusyResponse>('/freebusy', request);
+    return response;
+  },
+  getEventConflicts: async (event: EventRequest, excludeEventId?: string) => {
+    const query = excludeEventId ? `?${new URLSearchParams({ excludeEventId }).toString()}` : '';
+    const response = await apiClient.post<EventResponse[]>(`/events/conflicts${query}`, event);
     return response;
   },
   createEvent: async (event: EventRequest) => {
@@ -23,19 +23,53 @@ interface EventRequest {
   endTime: Date;
   ownerId: string;
   status: EventStatus;
+  // Правило повторения, например FREQ=WEEKLY;COUNT=10
+  recurrenceRule?: string | null;
+  recurrenceExceptions?: string[];
 }
 
-interface EventResponse {
+// Событие в списках: без описания, оно приходит только в getEventById
+interface EventSummaryResponse {
   id: string;
   title: string;
-  description: string;
   startTime: Date;
   endTime: Date;
   ownerId: string;
   createdAt: Date;
   status: EventStatus;
+  recurrenceRule: string | null;
+  recurrenceExceptions: string[];
+}
+
+interface EventResponse extends EventSummaryResponse {
+  description: string;
+}
+
+interface FreeBusyRequest {
+  userIds: string[];
+  from: string;
+  to: string;
+}
+
+interface TimeInterval {
+  start: string;
+  end: string;
+}
+
+interface FreeBusyResponse {
+  from: string;
+  to: string;
+  users: { userId: string; busy: TimeInterval[] }[];
+  free: TimeInterval[];
 }
 
-export type { EventRequest, EventResponse };
+export type {
+  EventRequest,
+  EventResponse,
+  EventSummaryResponse,
+  FreeBusyRequest,
+  FreeBusyResponse,
+  TimeInterval,
+};
 
 export { EventStatusData, EventStatusDataForCreation, EventStatus };
@@ -1,5 +1,10 @@
 import { apiClient } from '@/shared/api';
-import type { InvitationRequest, InvitationResponse } from '../model/types';
+import type {
+  InvitationBatchRequest,
+  InvitationBatchResult,
+  InvitationRequest,
+  InvitationResponse,
+} from '../model/types';
 
 const invitationApi = {
   getInvitations: async () => {
@@ -18,6 +23,10 @@ const invitationApi = {
     const response = await apiClient.post('/invitations', invitation);
     return response;
   },
+  createInvitations: async (batch: InvitationBatchRequest) => {
+    const response = await apiClient.post<InvitationBatchResult[]>('/invitations/batch', batch);
+    return response;
+  },
   updateInvitation: async (id: string, invitation: InvitationRequest) => {
     const response = await apiClient.put(`/invitations/${id}`, invitation);
     return response;
@@ -24,6 +24,18 @@ interface InvitationResponse {
   status: InvitationStatus;
 }
 
-export type { InvitationRequest, InvitationResponse };
+interface InvitationBatchRequest {
+  eventId: string;
+  userIds: string[];
+  status?: InvitationStatus;
+}
+
+interface InvitationBatchResult {
+  userId: string;
+  outcome: 'CREATED' | 'ALREADY_INVITED' | 'USER_NOT_FOUND';
+  invitation: InvitationResponse | null;
+}
+
+export type { InvitationRequest, InvitationResponse, InvitationBatchRequest, InvitationBatchResult };
 
 export { InvitationStatusData, InvitationStatus };
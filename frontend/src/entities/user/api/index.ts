@@ -1,5 +1,11 @@
 import { apiClient } from '@/shared/api/client';
-import type { UserCreate, UserLogin, UserResponse, UserUpdate } from '../model/types';
+import type {
+  UserCreate,
+  UserLogin,
+  UserResponse,
+  UserSuggestion,
+  UserUpdate,
+} from '../model/types';
 
 const userApi = {
   getAllUsers: async () => {
@@ -21,13 +27,19 @@ const userApi = {
   searchUsers: async (query: string, page: number = 0, size: number = 20) => {
     const response = await apiClient.get<{
       content: UserResponse[];
-      totalElements: number;
-      totalPages: number;
       number: number;
       size: number;
+      first: boolean;
+      last: boolean;
     }>(`/users/search?q=${encodeURIComponent(query)}&page=${page}&size=${size}`);
     return response;
   },
+  autocompleteUsers: async (query: string, limit: number = 10) => {
+    const response = await apiClient.get<UserSuggestion[]>(
+      `/users/autocomplete?q=${encodeURIComponent(query)}&limit=${limit}`,
+    );
+    return response;
+  },
 };
 
 const authApi = {
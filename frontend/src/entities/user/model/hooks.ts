@@ -129,6 +129,16 @@ const useSearchUsers = (
     retry: false,
   });
 };
+const useUserAutocomplete = (query: string, limit: number = 10, enabled: boolean = true) => {
+  return useQuery({
+    queryKey: ['userAutocomplete', query, limit],
+    queryFn: () => userApi.autocompleteUsers(query, limit),
+    enabled: enabled && query.length > 0,
+    retry: false,
+    placeholderData: (previous) => previous,
+  });
+};
+
 export {
   useUsers,
   useUser,
@@ -140,4 +150,5 @@ export {
   useRefresh,
   useMe,
   useSearchUsers,
+  useUserAutocomplete,
 };
@@ -23,6 +23,12 @@ interface UserResponse {
   role: UserRole;
 }
 
+interface UserSuggestion {
+  id: string;
+  email: string;
+  username: string;
+}
+
 interface UserUpdate {
   email?: string;
   username?: string;
@@ -37,5 +43,5 @@ interface AuthResponse {
   username: string;
 }
 
-export type { AuthResponse, UserCreate, UserLogin, UserResponse, UserUpdate };
+export type { AuthResponse, UserCreate, UserLogin, UserResponse, UserSuggestion, UserUpdate };
 export { UserRole };
@@ -1,7 +1,7 @@
 import { UserSearch } from '@/features/user-search';
 import { useCreateContact, ContactRequestStatus } from '@/entities/contact';
 import { useMe } from '@/entities/user';
-import type { UserResponse } from '@/entities/user';
+import type { UserSuggestion } from '@/entities/user';
 import { Stack, Button, Text } from '@mantine/core';
 import { notifications } from '@mantine/notifications';
 import { useState } from 'react';
@@ -13,10 +13,10 @@ type ContactFormProps = {
 const ContactForm = ({ onSubmit }: ContactFormProps) => {
   const { data: currentUser } = useMe();
   const { mutateAsync: createContact } = useCreateContact();
-  const [selectedUser, setSelectedUser] = useState<UserResponse | null>(null);
+  const [selectedUser, setSelectedUser] = useState<UserSuggestion | null>(null);
   const [isSubmitting, setIsSubmitting] = useState(false);
 
-  const handleSelectUser = (user: UserResponse) => {
+  const handleSelectUser = (user: UserSuggestion) => {
     setSelectedUser(user);
   };
 
@@ -1,4 +1,4 @@
-import { useUserContacts, ContactRequestStatus } from '@/entities/contact';
+import { useContactIds } from '@/entities/contact';
 import { useInvitations, useCreateInvitation, InvitationStatus } from '@/entities/invitation';
 import { useMe } from '@/entities/user';
 import { Stack, Skeleton } from '@mantine/core';
@@ -15,22 +15,16 @@ type EventInviteFormProps = {
 
 const EventInviteForm = ({ eventId, onInvite }: EventInviteFormProps) => {
   const { data: currentUser } = useMe();
-  const { data: contacts, isLoading: contactsLoading } = useUserContacts(currentUser?.id ?? '');
+  const { data: contactIds, isLoading: contactsLoading } = useContactIds(currentUser?.id ?? '');
   const { data: invitations, isLoading: invitationsLoading } = useInvitations();
   const { mutateAsync: createInvitation } = useCreateInvitation();
   const [searchQuery, setSearchQuery] = useState('');
   const [debouncedSearch] = useDebouncedValue(searchQuery, 300);
 
   const acceptedContacts = useMemo(() => {
-    if (!contacts || !currentUser) return [];
-    return contacts
-      .filter((contact) => contact.status === ContactRequestStatus.ACCEPTED)
-      .map((contact) => {
-        const contactUserId =
-          contact.fromUserId === currentUser.id ? contact.toUserId : contact.fromUserId;
-        return { ...contact, contactUserId };
-      });
-  }, [contacts, currentUser]);
+    if (!contactIds) return [];
+    return contactIds.map((contactUserId) => ({ id: contactUserId, contactUserId }));
+  }, [contactIds]);
 
   const alreadyInvitedUserIds = useMemo(() => {
     if (!invitations) return [];
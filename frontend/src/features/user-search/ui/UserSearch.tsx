@@ -1,4 +1,4 @@
-import { useSearchUsers, type UserResponse } from '@/entities/user';
+import { useUserAutocomplete, type UserSuggestion } from '@/entities/user';
 import { nameToColor } from '@/shared/utils';
 import {
   TextInput,
@@ -8,60 +8,27 @@ import {
   Text,
   Avatar as MantineAvatar,
   Skeleton,
-  Button,
 } from '@mantine/core';
 import { useDebouncedValue } from '@mantine/hooks';
-import { useState, useEffect } from 'react';
+import { useState } from 'react';
 import { IconSearch } from '@tabler/icons-react';
 
 type UserSearchProps = {
-  onSelectUser: (user: UserResponse) => void;
+  onSelectUser: (user: UserSuggestion) => void;
   excludeUserIds?: string[];
 };
 
+const SUGGESTION_LIMIT = 20;
+
 const UserSearch = ({ onSelectUser, excludeUserIds = [] }: UserSearchProps) => {
   const [query, setQuery] = useState('');
-  const [debouncedQuery] = useDebouncedValue(query, 300);
-  const [page, setPage] = useState(0);
-  const [accumulatedUsers, setAccumulatedUsers] = useState<UserResponse[]>([]);
-  const size = 20;
-
-  const shouldSearch = debouncedQuery.length >= 2;
-  const { data, isLoading, isFetching } = useSearchUsers(debouncedQuery, page, size, shouldSearch);
-
-  // Reset accumulated users when query changes
-  // This is a valid use case for syncing state with query results
-  useEffect(() => {
-    if (debouncedQuery.length >= 2 && page !== 0) {
-      setPage(0);
-      setAccumulatedUsers([]);
-    }
-    // eslint-disable-next-line
-  }, [debouncedQuery]);
+  // Подсказки приходят из индекса в памяти сервера, поэтому задержка короткая
+  const [debouncedQuery] = useDebouncedValue(query.trim(), 100);
 
-  // Accumulate users from paginated results
-  // This is a valid use case for syncing state with query results
-  useEffect(() => {
-    if (data?.content) {
-      if (page === 0) {
-        setAccumulatedUsers(data.content);
-      } else {
-        setAccumulatedUsers((prev) => {
-          const newUsers = data.content.filter((user) => !prev.some((u) => u.id === user.id));
-          return [...prev, ...newUsers];
-        });
-      }
-    }
-    // eslint-disable-next-line
-  }, [data?.content, page]);
+  const shouldSearch = debouncedQuery.length >= 1;
+  const { data, isLoading } = useUserAutocomplete(debouncedQuery, SUGGESTION_LIMIT, shouldSearch);
 
-  const filteredUsers = accumulatedUsers.filter((user) => !excludeUserIds.includes(user.id));
-
-  const handleLoadMore = () => {
-    if (data && page < data.totalPages - 1) {
-      setPage((prev) => prev + 1);
-    }
-  };
+  const filteredUsers = (data ?? []).filter((user) => !excludeUserIds.includes(user.id));
 
   const handleQueryChange = (value: string) => {
     setQuery(value);
@@ -76,7 +43,7 @@ const UserSearch = ({ onSelectUser, excludeUserIds = [] }: UserSearchProps) => {
         leftSection={<IconSearch size={16} />}
       />
 
-      {debouncedQuery.length >= 2 && (
+      {shouldSearch && (
         <ScrollArea h={300}>
           <Stack gap="xs">
             {isLoading && (
@@ -116,21 +83,9 @@ const UserSearch = ({ onSelectUser, excludeUserIds = [] }: UserSearchProps) => {
                   </Stack>
                 </Group>
               ))}
-
-            {!isLoading && data && page < data.totalPages - 1 && (
-              <Button variant="light" onClick={handleLoadMore} loading={isFetching} fullWidth>
-                Загрузить еще
-              </Button>
-            )}
           </Stack>
         </ScrollArea>
       )}
-
-      {debouncedQuery.length < 2 && debouncedQuery.length > 0 && (
-        <Text c="dimmed" ta="center" py="md">
-          Введите минимум 2 символа для поиска
-        </Text>
-      )}
     </Stack>
   );
 };
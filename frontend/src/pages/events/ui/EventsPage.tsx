@@ -3,7 +3,7 @@ import {
   useDeleteEvent,
   useUserEvents,
   type EventRequest,
-  type EventResponse,
+  type EventSummaryResponse,
   EventStatus,
   EventStatusData,
 } from '@/entities/event';
@@ -124,10 +124,10 @@ const EventsPage = () => {
       },
     });
   };
-  const handleEditEvent = (event: EventResponse) => {
+  const handleEditEvent = (event: EventSummaryResponse) => {
     navigate(`/events/${event.id}`);
   };
-  const handleDeleteEvent = async (event: EventResponse) => {
+  const handleDeleteEvent = async (event: EventSummaryResponse) => {
     try {
       await deleteEventMutation(event.id);
       notifications.show({
@@ -202,7 +202,7 @@ const EventsPage = () => {
 };
 
 type EventCardProps = {
-  event: EventResponse;
+  event: EventSummaryResponse;
   onEdit: () => void;
   onDelete: () => void;
 };
@@ -289,12 +289,6 @@ const EventCard = ({ event, onEdit, onDelete }: EventCardProps) => {
           </Group>
         </Group>
 
-        {event.description && (
-          <Text size="sm" c="dimmed" lineClamp={2}>
-            {event.description}
-          </Text>
-        )}
-
         <Divider />
 
         <Stack gap="xs">
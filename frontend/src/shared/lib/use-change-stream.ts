@@ -0,0 +1,104 @@
+import { useEffect } from 'react';
+import { API_URL, queryClient } from '@/shared/config';
+import { tokenStorage } from './token';
+
+const INVITATION_KEYS = [['invitations'], ['invitation'], ['userInvitations']];
+const CONTACT_KEYS = [['contacts'], ['contact'], ['userContacts']];
+
+const RECONNECT_MIN_DELAY = 1000;
+const RECONNECT_MAX_DELAY = 30000;
+
+const invalidate = (keys: string[][]) => {
+  keys.forEach((queryKey) => queryClient.invalidateQueries({ queryKey }));
+};
+
+const handleEvent = (name: string) => {
+  switch (name) {
+    case 'invitation':
+      invalidate(INVITATION_KEYS);
+      break;
+    case 'contact-request':
+      invalidate(CONTACT_KEYS);
+      break;
+    case 'resync':
+      // Часть уведомлений пропущена: перечитываем все, что могло измениться
+      invalidate([...INVITATION_KEYS, ...CONTACT_KEYS]);
+      break;
+  }
+};
+
+/**
+ * Разбирает поток text/event-stream и вызывает handleEvent для каждого
+ * именованного события. Комментарии (ping) пропускаются.
+ */
+const readEvents = async (body: ReadableStream<Uint8Array>, signal: AbortSignal) => {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+  let eventName = '';
+  while (!signal.aborted) {
+    const { value, done } = await reader.read();
+    if (done) {
+      return;
+    }
+    buffer += value;
+    const lines = buffer.split(/\r?\n/);
+    buffer = lines.pop() ?? '';
+    for (const line of lines) {
+      if (line === '') {
+        if (eventName) {
+          handleEvent(eventName);
+        }
+        eventName = '';
+      } else if (line.startsWith('event:')) {
+        eventName = line.slice('event:'.length).trim();
+      }
+    }
+  }
+};
+
+/**
+ * Подписка на /api/stream вместо периодического опроса списков приглашений
+ * и контактов. EventSource не умеет передавать заголовок Authorization,
+ * поэтому поток читается через fetch. После обрыва соединение
+ * восстанавливается с растущей задержкой, а данные перечитываются: за время
+ * обрыва уведомления могли потеряться.
+ */
+export const useChangeStream = () => {
+  useEffect(() => {
+    const controller = new AbortController();
+    let delay = RECONNECT_MIN_DELAY;
+    let timer: ReturnType<typeof setTimeout> | undefined;
+
+    const connect = async () => {
+      const token = tokenStorage.get();
+      if (token) {
+        try {
+          const response = await fetch(`${API_URL}/stream`, {
+            headers: { Authorization: `Bearer ${token}`, Accept: 'text/event-stream' },
+            signal: controller.signal,
+          });
+          if (response.ok && response.body) {
+            if (delay > RECONNECT_MIN_DELAY) {
+              handleEvent('resync');
+            }
+            delay = RECONNECT_MIN_DELAY;
+            await readEvents(response.body, controller.signal);
+          }
+        } catch {
+          // Обрыв соединения: переподключаемся ниже
+        }
+      }
+      if (!controller.signal.aborted) {
+        timer = setTimeout(connect, delay);
+        delay = Math.min(delay * 2, RECONNECT_MAX_DELAY);
+      }
+    };
+
+    connect();
+
+    return () => {
+      controller.abort();
+      clearTimeout(timer);
+    };
+  }, []);
+};
@@ -1,4 +1,4 @@
-import { EventStatus, type EventResponse } from '@/entities/event';
+import { EventStatus, type EventSummaryResponse } from '@/entities/event';
 import { InvitationStatus } from '@/entities/invitation';
 
 export const enum EventState {
@@ -33,7 +33,7 @@ export const getEventStatusColor = (status: EventStatus): string => {
   }
 };
 
-export const getEventState = (event: EventResponse): EventState | null => {
+export const getEventState = (event: EventSummaryResponse): EventState | null => {
   if (event.status === EventStatus.DRAFT || event.status === EventStatus.CANCELLED) {
     return null;
   }
@@ -3,12 +3,14 @@ import { AppShell, Stack, UnstyledButton, Group, Box, Tooltip } from '@mantine/c
 import { useDisclosure } from '@mantine/hooks';
 import { Outlet, Link } from 'react-router';
 import { useTokenRefresh } from '@/shared/lib/use-token-refresh';
+import { useChangeStream } from '@/shared/lib/use-change-stream';
 import { useMe } from '@/entities/user';
 import { Avatar } from '@/shared/ui/avatar';
 
 const AppLayout = () => {
   const [opened, { toggle }] = useDisclosure();
   useTokenRefresh();
+  useChangeStream();
   const { data: user } = useMe();
 
   return (
@@ -1,11 +1,57 @@
-import { defineConfig } from 'vite';
+import { defineConfig, type Plugin } from 'vite';
 import react from '@vitejs/plugin-react-swc';
+import fs from 'fs';
 import path from 'path';
+import zlib from 'zlib';
 import tailwindcss from '@tailwindcss/vite';
 
+const COMPRESSIBLE = /\.(js|css|html|svg|json|txt)$/;
+const MIN_COMPRESS_SIZE = 1024;
+
+// Кладет рядом с файлами сборки сжатые копии .br и .gz: бэкенд отдает их
+// по Accept-Encoding (EncodedResourceResolver) без сжатия на лету
+const precompress = (): Plugin => {
+  let outDir = 'dist';
+
+  const compressDir = (dir: string) => {
+    for (const entry of fs.readdirSync(dir, { withFileTypes: true })) {
+      const file = path.join(dir, entry.name);
+      if (entry.isDirectory()) {
+        compressDir(file);
+        continue;
+      }
+      if (!COMPRESSIBLE.test(entry.name)) {
+        continue;
+      }
+      const content = fs.readFileSync(file);
+      if (content.length < MIN_COMPRESS_SIZE) {
+        continue;
+      }
+      fs.writeFileSync(`${file}.gz`, zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION }));
+      fs.writeFileSync(
+        `${file}.br`,
+        zlib.brotliCompressSync(content, {
+          params: { [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY },
+        }),
+      );
+    }
+  };
+
+  return {
+    name: 'precompress',
+    apply: 'build',
+    configResolved(config) {
+      outDir = path.resolve(config.root, config.build.outDir);
+    },
+    closeBundle() {
+      compressDir(outDir);
+    },
+  };
+};
+
 // https://vite.dev/config/
 export default defineConfig({
-  plugins: [react(), tailwindcss()],
+  plugins: [react(), tailwindcss(), precompress()],
   resolve: {
     alias: {
       '@': path.resolve(__dirname, './src'),